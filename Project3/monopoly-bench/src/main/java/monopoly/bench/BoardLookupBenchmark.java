@@ -0,0 +1,85 @@
+package monopoly.bench;
+
+import monopoly.Board;
+import monopoly.Property;
+import monopoly.Rules;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//? Landing lookups: the old HashMap<Integer, Property> (isProperty + get) against Board's array-backed getProperty.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardLookupBenchmark {
+    private static final int LANDINGS = 1024;
+
+    private Board board;
+    private Map<Integer, Property> map;
+    private int[] positions;
+
+    @Setup
+    public void setUp() {
+        board = new Board(Rules.Default());
+        map = new HashMap<>();
+        for (int slot = 0; slot < board.getPropertyCount(); slot++) {
+            Property property = board.getPropertyInSlot(slot);
+            map.put(property.getIndex(), property);
+        }
+
+        Random random = new Random(7);
+        positions = new int[LANDINGS];
+        for (int i = 0; i < LANDINGS; i++) {
+            positions[i] = random.nextInt(board.getSize());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LANDINGS)
+    public int hashMap() {
+        int sum = 0;
+        for (int index : positions) {
+            if (map.containsKey(index)) {
+                sum += map.get(index).getPrice();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LANDINGS)
+    public int array() {
+        int sum = 0;
+        for (int index : positions) {
+            Property property = board.getProperty(index);
+            if (property != null) {
+                sum += property.getPrice();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int iterateHashMap() {
+        int sum = 0;
+        for (Property property : map.values()) {
+            sum += property.getPrice();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int iterateSlots() {
+        int sum = 0;
+        for (int slot = 0; slot < board.getPropertyCount(); slot++) {
+            sum += board.getPropertyInSlot(slot).getPrice();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,69 @@
+package monopoly.bench;
+
+import monopoly.GameEngine;
+import monopoly.GameEventStream;
+import monopoly.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//? One GameEngine.rollDice() (plus the buy/decline that follows) per op. Run with -prof gc: a turn should report ~0 B/op with or without an event stream.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TurnBenchmark {
+    private GameEngine engine;
+    private List<Player> players;
+    private GameEventStream.Subscription subscription;
+    private int decisions;
+    private long eventCount;
+
+    @Param({"false", "true"})
+    public boolean events;
+
+    @Setup
+    public void setUp() {
+        engine = new GameEngine(42);
+        engine.newGame(Arrays.asList("A", "B", "C", "D"));
+        players = engine.getPlayers();
+
+        if (events) {
+            GameEventStream stream = new GameEventStream();
+            engine.setEventStream(stream);
+            subscription = stream.subscribe(event -> eventCount += event.type.ordinal());
+        }
+    }
+
+    @Benchmark
+    public int turn() {
+        engine.rollDice();
+
+        if (engine.isWaitingForPropertyDecision()) {
+            if ((decisions++ & 1) == 0) {
+                engine.buyProperty();
+            } else {
+                engine.declineProperty();
+            }
+        }
+
+        if (subscription != null) {
+            subscription.poll();
+        }
+
+        //! Keep the game alive forever so no new objects are needed mid-measurement.
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (player.isBankrupt || player.cash > 1_000_000) {
+                player.isBankrupt = false;
+                player.cash = 1_500;
+            }
+        }
+
+        return engine.getCurrentPlayer().position;
+    }
+}
@@ -0,0 +1,3 @@
+module monopoly.core {
+    exports monopoly;
+}
@@ -0,0 +1,171 @@
+package monopoly;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+//? One game's board: the rule set's shared BoardTemplate plus a small mutable overlay, one Property
+//? (owner + buildings) per property slot and the ownership index. Nothing static is copied per game.
+public class Board {
+    public final Rules rules;
+    public final BoardTemplate template;
+
+    //! One per property slot (a property's position among the board's properties, used as the bit in ownership sets)
+    private final Property[] slots;
+    private final Map<Player, Ownership> ownership = new IdentityHashMap<>();
+    private int version = 0; //! Bumped on every owner or building change (lets snapshots reuse unchanged property data)
+
+    //? Everything one player owns: a bit per property slot plus how many of each color set they hold.
+    private static class Ownership {
+        final BitSet slots = new BitSet();
+        final int[] perColorSet;
+
+        Ownership(int colorSetCount) {
+            perColorSet = new int[colorSetCount];
+        }
+    }
+
+    public Board(Rules rules) {
+        this.rules = rules;
+        this.template = rules.template;
+        this.slots = new Property[template.getPropertyCount()];
+
+        for (int slot = 0; slot < slots.length; slot++) {
+            slots[slot] = new Property(template.getProperty(slot), this);
+        }
+    }
+
+    public int getSize() {
+        return template.getSize();
+    }
+
+    public int getJailIndex() {
+        return template.getJailIndex();
+    }
+
+    public boolean isProperty(int index) {
+        return getProperty(index) != null;
+    }
+
+    //? null if the space isn't a property (or is off the board)
+    public Property getProperty(int index) {
+        if (index < 0 || index >= template.getSize()) {
+            return null;
+        }
+
+        int slot = template.getSlot(index);
+        return slot < 0 ? null : slots[slot];
+    }
+
+    public Rules.SpaceType getSpaceType(int index) {
+        return template.getSpaceType(index);
+    }
+
+    public int indexOf(Property property) {
+        return property.board == this ? property.getIndex() : -1;
+    }
+
+    public String getSpaceName(int index) {
+        return template.getSpaceName(index);
+    }
+
+    //? Color sets
+
+    public int getPropertyCount() {
+        return slots.length;
+    }
+
+    public Property getPropertyInSlot(int slot) {
+        return slots[slot];
+    }
+
+    public int getColorSetCount() {
+        return template.getColorSetCount();
+    }
+
+    //! Returns a read-only view over this board's properties, nothing is copied
+    public List<Property> getColorSet(int colorSetId) {
+        return new AbstractList<Property>() {
+            @Override
+            public Property get(int i) {
+                return slots[template.getColorSetSlot(colorSetId, i)];
+            }
+
+            @Override
+            public int size() {
+                return template.getColorSetSize(colorSetId);
+            }
+        };
+    }
+
+    public List<Property> getColorSet(Property property) {
+        return getColorSet(property.template.colorSetId);
+    }
+
+    public List<Property> getColorSet(String colorSet) {
+        int colorSetId = template.getColorSetId(colorSet);
+        return colorSetId < 0 ? Collections.<Property>emptyList() : getColorSet(colorSetId);
+    }
+
+    //? Ownership index, kept up to date by Property.setOwner / releaseOwnership
+
+    public int getVersion() {
+        return version;
+    }
+
+    void buildingsChanged() {
+        version++;
+    }
+
+    void ownerChanged(Property property, Player oldOwner, Player newOwner) {
+        if (oldOwner == newOwner) return;
+        version++;
+        PropertyTemplate deed = property.template;
+
+        if (oldOwner != null) {
+            Ownership owned = ownership.get(oldOwner);
+            owned.slots.clear(deed.slot);
+            owned.perColorSet[deed.colorSetId]--;
+        }
+
+        if (newOwner != null) {
+            Ownership owned = ownership.get(newOwner);
+            if (owned == null) {
+                owned = new Ownership(template.getColorSetCount());
+                ownership.put(newOwner, owned);
+            }
+            owned.slots.set(deed.slot);
+            owned.perColorSet[deed.colorSetId]++;
+        }
+    }
+
+    //! O(1): compares the player's count for the set with the set's size.
+    public boolean ownsColorSet(Player player, Property property) {
+        Ownership owned = ownership.get(player);
+        int colorSetId = property.template.colorSetId;
+        return owned != null && owned.perColorSet[colorSetId] == template.getColorSetSize(colorSetId);
+    }
+
+    public int countOwned(Player player) {
+        Ownership owned = ownership.get(player);
+        return owned == null ? 0 : owned.slots.cardinality();
+    }
+
+    //? Next slot >= fromSlot owned by player, or -1. Walks the bitset, so no list is built.
+    public int nextOwnedSlot(Player player, int fromSlot) {
+        Ownership owned = ownership.get(player);
+        return owned == null ? -1 : owned.slots.nextSetBit(fromSlot);
+    }
+
+    public List<Property> getOwnedProperties(Player player) {
+        List<Property> result = new ArrayList<>();
+        for (int slot = nextOwnedSlot(player, 0); slot >= 0; slot = nextOwnedSlot(player, slot + 1)) {
+            result.add(slots[slot]);
+        }
+        return result;
+    }
+}
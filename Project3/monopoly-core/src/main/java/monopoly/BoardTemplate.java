@@ -0,0 +1,127 @@
+package monopoly;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//? Everything about a board that never changes during a game, flattened into arrays: space types, which
+//? spaces are properties, the property templates and the color sets. Built once per rule set (Rules.template)
+//? and shared read-only by every Board, CompactEngine and thread using that rule set.
+public final class BoardTemplate {
+    private final Rules.SpaceType[] types;
+    private final String[] names;
+    private final int[] slotOfIndex;         //! Board index -> property slot, -1 for non-properties
+    private final int[] tax;                 //! Per board index, amount due on TAX spaces
+    private final PropertyTemplate[] slots;
+    private final int[][] colorSetSlots;     //! Color set id -> member slots, in board order
+    private final Map<String, Integer> colorSetIds;
+    private final int goIndex;
+    private final int jailIndex;
+
+    BoardTemplate(List<Rules.BoardSpace> spaces, int goIndex, int jailIndex) {
+        int size = spaces.size();
+        this.types = new Rules.SpaceType[size];
+        this.names = new String[size];
+        this.slotOfIndex = new int[size];
+        this.tax = new int[size];
+        this.goIndex = goIndex;
+        this.jailIndex = jailIndex;
+
+        List<PropertyTemplate> properties = new ArrayList<>();
+        List<List<Integer>> sets = new ArrayList<>();
+        Map<String, Integer> setIds = new HashMap<>();
+
+        for (int index = 0; index < size; index++) {
+            Rules.BoardSpace space = spaces.get(index);
+            types[index] = space.type;
+            names[index] = space.name;
+            slotOfIndex[index] = -1;
+
+            if (space.type == Rules.SpaceType.TAX) {
+                tax[index] = space.price;
+            } else if (space.type == Rules.SpaceType.PROP) {
+                Integer colorSetId = setIds.get(space.colorSet);
+                if (colorSetId == null) {
+                    colorSetId = sets.size();
+                    setIds.put(space.colorSet, colorSetId);
+                    sets.add(new ArrayList<>());
+                }
+
+                int slot = properties.size();
+                sets.get(colorSetId).add(slot);
+                slotOfIndex[index] = slot;
+                properties.add(new PropertyTemplate(space.name, space.price, space.rent, space.colorSet,
+                        space.housePrice == null ? 0 : space.housePrice, index, slot, colorSetId));
+            }
+        }
+
+        this.slots = properties.toArray(new PropertyTemplate[0]);
+        this.colorSetSlots = new int[sets.size()][];
+        for (int set = 0; set < colorSetSlots.length; set++) {
+            List<Integer> members = sets.get(set);
+            colorSetSlots[set] = new int[members.size()];
+            for (int i = 0; i < members.size(); i++) {
+                colorSetSlots[set][i] = members.get(i);
+            }
+        }
+        this.colorSetIds = Collections.unmodifiableMap(setIds);
+    }
+
+    public int getSize() {
+        return types.length;
+    }
+
+    public int getGoIndex() {
+        return goIndex;
+    }
+
+    public int getJailIndex() {
+        return jailIndex;
+    }
+
+    public Rules.SpaceType getSpaceType(int index) {
+        return types[index];
+    }
+
+    public String getSpaceName(int index) {
+        return names[index];
+    }
+
+    //? Property slot of a board index, -1 if that space isn't a property.
+    public int getSlot(int index) {
+        return slotOfIndex[index];
+    }
+
+    public int getTax(int index) {
+        return tax[index];
+    }
+
+    public int getPropertyCount() {
+        return slots.length;
+    }
+
+    public PropertyTemplate getProperty(int slot) {
+        return slots[slot];
+    }
+
+    public int getColorSetCount() {
+        return colorSetSlots.length;
+    }
+
+    //? -1 if no property on this board uses that color set.
+    public int getColorSetId(String colorSet) {
+        Integer id = colorSetIds.get(colorSet);
+        return id == null ? -1 : id;
+    }
+
+    public int getColorSetSize(int colorSetId) {
+        return colorSetSlots[colorSetId].length;
+    }
+
+    //? Slot of the i-th member (board order) of a color set.
+    public int getColorSetSlot(int colorSetId, int i) {
+        return colorSetSlots[colorSetId][i];
+    }
+}
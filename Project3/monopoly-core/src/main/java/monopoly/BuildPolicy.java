@@ -0,0 +1,15 @@
+package monopoly;
+
+//? Decides whether a simulated player builds on one of their properties at the start of their turn.
+@FunctionalInterface
+public interface BuildPolicy {
+    boolean shouldBuild(GameEngine engine, Player player, Property property);
+
+    BuildPolicy ALWAYS = (engine, player, property) -> true;
+    BuildPolicy NEVER = (engine, player, property) -> false;
+
+    //! Only build while keeping at least `reserve` cash on hand afterwards.
+    static BuildPolicy keepReserve(int reserve) {
+        return (engine, player, property) -> player.cash - property.getHousePrice() >= reserve;
+    }
+}
@@ -0,0 +1,15 @@
+package monopoly;
+
+//? Decides whether a simulated player buys the property they just landed on.
+@FunctionalInterface
+public interface BuyPolicy {
+    boolean shouldBuy(GameEngine engine, Player player, Property property);
+
+    BuyPolicy ALWAYS = (engine, player, property) -> true;
+    BuyPolicy NEVER = (engine, player, property) -> false;
+
+    //! Only buy while keeping at least `reserve` cash on hand afterwards.
+    static BuyPolicy keepReserve(int reserve) {
+        return (engine, player, property) -> player.cash - property.getPrice() >= reserve;
+    }
+}
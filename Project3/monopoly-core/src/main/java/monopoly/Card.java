@@ -0,0 +1,49 @@
+package monopoly;
+
+//? Chance / Community Chest cards as a fixed effect table, so drawing a card is one array read instead of String matching.
+public enum Card {
+    CHANCE_ADVANCE_TO_GO("Advance to GO! Collect $200", Effect.ADVANCE_TO_GO, 0),
+    CHANCE_DIVIDEND("Bank pays you dividend of $50", Effect.COLLECT, 50),
+    CHANCE_GO_TO_JAIL("Go to Jail!", Effect.GO_TO_JAIL, 0),
+    CHANCE_POOR_TAX("Pay poor tax of $15", Effect.PAY, 15),
+    CHANCE_JAIL_FREE("Get out of Jail Free card", Effect.NONE, 0),
+    CHANCE_NEAREST_PROPERTY("Advance to nearest property", Effect.NONE, 0),
+
+    CHEST_ADVANCE_TO_GO("Advance to GO! Collect $200", Effect.ADVANCE_TO_GO, 0),
+    CHEST_BANK_ERROR("Bank error in your favor. Collect $200", Effect.COLLECT, 200),
+    CHEST_DOCTOR_FEE("Doctor's fee. Pay $50", Effect.PAY, 50),
+    CHEST_STOCK_SALE("From sale of stock you get $50", Effect.COLLECT, 50),
+    CHEST_JAIL_FREE("Get Out of Jail Free", Effect.NONE, 0),
+    CHEST_HOLIDAY_FUND("Holiday fund matures. Receive $100", Effect.COLLECT, 100);
+
+    public enum Effect {
+        ADVANCE_TO_GO, //! Move to GO and collect rules.goReward
+        COLLECT,
+        PAY,           //! Bankrupt if the player can't cover it
+        GO_TO_JAIL,
+        NONE           //! Flavor only, no rule attached yet
+    }
+
+    //! Deck order matters: rng.nextInt(deck.length) picks from these, keep them stable for seeded runs.
+    public static final Card[] CHANCE_DECK = {
+            CHANCE_ADVANCE_TO_GO, CHANCE_DIVIDEND, CHANCE_GO_TO_JAIL,
+            CHANCE_POOR_TAX, CHANCE_JAIL_FREE, CHANCE_NEAREST_PROPERTY
+    };
+
+    public static final Card[] COMMUNITY_CHEST_DECK = {
+            CHEST_ADVANCE_TO_GO, CHEST_BANK_ERROR, CHEST_DOCTOR_FEE,
+            CHEST_STOCK_SALE, CHEST_JAIL_FREE, CHEST_HOLIDAY_FUND
+    };
+
+    public final String deckName;
+    public final String text;
+    public final Effect effect;
+    public final int amount;
+
+    Card(String text, Effect effect, int amount) {
+        this.deckName = name().startsWith("CHANCE") ? "Chance" : "Community Chest";
+        this.text = text;
+        this.effect = effect;
+        this.amount = amount;
+    }
+}
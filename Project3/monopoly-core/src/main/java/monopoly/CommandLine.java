@@ -0,0 +1,283 @@
+package monopoly;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+//? Headless entry point: the engine, bots and tools without JavaFX, for scripts and CI boxes.
+//?
+//?   play      [players=Greedy,ExpectedValue] [rules=NAME] [seed=N] [turns=N] [budget=MS] [save=NAME] [quiet]
+//?   simulate  [games=N] [seats=always,200,never] [rules=NAME] [seed=N] [turns=N]
+//?   convert   NAME [to=sav|txt] [as=NEWNAME]
+//?   stats     NAME
+//?   analyze   [rules=NAME]
+//?   rules
+//?   tournament | serve | load  ARGS...   (same as Tournament, GameServer, LoadGenerator)
+//!
+//! The monopoly-core jar's main class (java -jar monopoly-core-<version>.jar ...): no JavaFX anywhere on the path.
+//! Commands only touch the classes they need, so a quick command is mostly JVM startup;
+//! -XX:TieredStopAtLevel=1 -Xshare:auto trims that further for scripts.
+public final class CommandLine {
+    private static final String USAGE = "Usage: java -jar monopoly-core.jar play|simulate|convert|stats|analyze|rules|tournament|serve|load [key=value...]";
+
+    private final PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+    private final Map<String, String> settings = new HashMap<>();
+    private final List<String> words = new ArrayList<>();
+
+    private CommandLine(String[] args) {
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split > 0) {
+                settings.put(arg.substring(0, split), arg.substring(split + 1));
+            } else {
+                words.add(arg);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        String[] rest = Arrays.copyOfRange(args, 1, args.length);
+        switch (args[0]) {
+            //! Tools with their own argument parsing
+            case "tournament": Tournament.main(rest); return;
+            case "serve": GameServer.main(rest); return;
+            case "load": LoadGenerator.main(rest); return;
+            default: break;
+        }
+
+        CommandLine command = new CommandLine(rest);
+        try {
+            if (!command.run(args[0])) {
+                System.out.println(USAGE);
+                System.exit(2);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            command.out.flush();
+            System.out.println("Error: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            command.out.flush();
+        }
+    }
+
+    private boolean run(String name) throws IOException {
+        switch (name) {
+            case "play": play(); return true;
+            case "simulate": simulate(); return true;
+            case "convert": convert(); return true;
+            case "stats": stats(); return true;
+            case "analyze": out.print(LandingAnalysis.Of(rules()).report()); return true;
+            case "rules": Rules.Available().forEach(out::println); return true;
+            default: return false;
+        }
+    }
+
+    //? One game between bots, printing the event log as it happens (unless `quiet`) and the final standings.
+    private void play() throws IOException {
+        List<PlayerStrategy> strategies = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (String name : get("players", "Greedy,ExpectedValue").split(",")) {
+            PlayerStrategy strategy = strategy(name);
+            strategies.add(strategy);
+            names.add(oneWord(strategy.getName()) + (names.size() + 1));
+        }
+        if (names.size() < 2 || names.size() > 4) throw new IllegalArgumentException("Need 2-4 players");
+
+        int maxTurns = Integer.parseInt(get("turns", "1000"));
+        long budgetNanos = Long.parseLong(get("budget", "0")) * 1_000_000L;
+
+        GameEngine engine = settings.containsKey("seed") ? new GameEngine(Long.parseLong(get("seed", null))) : new GameEngine();
+        engine.newGame(names, rules());
+
+        GameEventStream events = null;
+        if (!words.contains("quiet")) {
+            events = new GameEventStream();
+            engine.setEventStream(events);
+            events.subscribe(event -> out.println(event.describe(engine.getBoard())));
+        }
+
+        int turns = 0;
+        while (!engine.isGameOver() && turns < maxTurns) {
+            StrategyRunner.TakeTurn(strategies.get(engine.getCurrentPlayerIndex()), engine, budgetNanos);
+            turns++;
+            if (events != null) events.pollAll();
+        }
+
+        Player winner = engine.getWinner();
+        out.println(winner == null ? "No winner after " + turns + " rolls" : winner.name + " wins after " + turns + " rolls");
+        engine.setSnapshotsEnabled(true);
+        printStandings(engine.getSnapshot());
+
+        String save = get("save", null);
+        if (save != null && !engine.saveGame(save)) throw new IOException("Could not save " + save);
+    }
+
+    //? Simulator batch, one policy per seat: always, never, or a cash reserve kept back for both buying and building.
+    private void simulate() throws IOException {
+        String[] seats = get("seats", "always,200,never").split(",");
+        BuyPolicy[] buy = new BuyPolicy[seats.length];
+        BuildPolicy[] build = new BuildPolicy[seats.length];
+
+        for (int seat = 0; seat < seats.length; seat++) {
+            switch (seats[seat].toLowerCase(Locale.ROOT)) {
+                case "always":
+                    buy[seat] = BuyPolicy.ALWAYS;
+                    build[seat] = BuildPolicy.ALWAYS;
+                    break;
+                case "never":
+                    buy[seat] = BuyPolicy.NEVER;
+                    build[seat] = BuildPolicy.NEVER;
+                    break;
+                default:
+                    int reserve = Integer.parseInt(seats[seat]);
+                    buy[seat] = BuyPolicy.keepReserve(reserve);
+                    build[seat] = BuildPolicy.keepReserve(reserve);
+            }
+        }
+
+        Rules rules = rules();
+        Simulator simulator = new Simulator(buy, build)
+                .setRules(rules)
+                .setMaxTurns(Integer.parseInt(get("turns", "1000")));
+        if (settings.containsKey("seed")) simulator.setSeed(Long.parseLong(get("seed", null)));
+
+        out.print(simulator.run(Integer.parseInt(get("games", "10000"))).report(rules));
+    }
+
+    //? Rewrites a save in the other format. Loading a .sav replays its journal, so `to=sav` also folds a
+    //? journal back into a single snapshot.
+    private void convert() throws IOException {
+        String name = name();
+        String target = get("as", name);
+        String format = get("to", SaveLoad.HasBinary(name) ? "txt" : "sav");
+
+        GameEngine engine = load(name);
+        boolean saved;
+        if (format.equals("sav")) {
+            saved = engine.saveGame(target);
+        } else if (format.equals("txt")) {
+            if (!engine.getRules().name.equals(Rules.DEFAULT)) {
+                out.println("Warning: the text format has no rule set, " + target + SaveLoad.TEXT_EXTENSION + " will load with the default rules");
+            }
+            engine.setSnapshotsEnabled(true);
+            GameSnapshot snapshot = engine.getSnapshot();
+            for (int slot = 0; slot < snapshot.getPropertyCount(); slot++) {
+                if (snapshot.getHouses(slot) > 0 || snapshot.hasHotel(slot)) {
+                    out.println("Warning: the text format only keeps owners, houses and hotels are dropped");
+                    break;
+                }
+            }
+            saved = SaveLoad.Save(target, snapshot);
+        } else {
+            throw new IllegalArgumentException("Unknown format " + format + ", expected sav or txt");
+        }
+
+        if (!saved) throw new IOException("Could not write " + target);
+        out.println("Wrote savedata/" + target + (format.equals("sav") ? SaveLoad.BINARY_EXTENSION : SaveLoad.TEXT_EXTENSION));
+    }
+
+    private void stats() throws IOException {
+        GameEngine engine = load(name());
+        engine.setSnapshotsEnabled(true);
+        GameSnapshot snapshot = engine.getSnapshot();
+
+        out.println("Rules: " + snapshot.getRules().name + "  Turn: " + snapshot.getPlayerName(snapshot.getCurrentPlayer())
+                + (snapshot.getPendingSlot() >= 0 ? "  (deciding on " + snapshot.getRules().template.getProperty(snapshot.getPendingSlot()).name + ")" : ""));
+        printStandings(snapshot);
+    }
+
+    //! Cash, then net worth as the bots score it (CompactEngine.netWorth): cash + purchase price of everything owned and built.
+    //! Padded by hand: the first String.format costs more than the rest of a stats run (regex + formatter setup).
+    private void printStandings(GameSnapshot snapshot) {
+        BoardTemplate template = snapshot.getRules().template;
+        CompactEngine prices = new CompactEngine(snapshot.getRules());
+        out.println(row("Player", "Cash", "Net worth", "Owns", "Houses", "Hotels", "Position"));
+
+        for (int seat = 0; seat < snapshot.getPlayerCount(); seat++) {
+            int owned = 0;
+            int houses = 0;
+            int hotels = 0;
+
+            for (int slot = 0; slot < snapshot.getPropertyCount(); slot++) {
+                if (snapshot.getOwner(slot) != seat) continue;
+                owned++;
+                houses += snapshot.getHouses(slot);
+                if (snapshot.hasHotel(slot)) hotels++;
+            }
+            int worth = prices.netWorth(snapshot.state(), seat);
+
+            String where = snapshot.isBankrupt(seat) ? "bankrupt"
+                    : template.getSpaceName(snapshot.getPosition(seat)) + (snapshot.isInJail(seat) ? " (in jail)" : "");
+            out.println(row(snapshot.getPlayerName(seat), String.valueOf(snapshot.getCash(seat)), String.valueOf(worth),
+                    String.valueOf(owned), String.valueOf(houses), String.valueOf(hotels), where));
+        }
+    }
+
+    private static String row(String player, String cash, String worth, String owns, String houses, String hotels, String position) {
+        StringBuilder row = new StringBuilder("  ").append(player);
+        pad(row, 22);
+        pad(row, 31 - cash.length()).append(cash);
+        pad(row, 42 - worth.length()).append(worth);
+        pad(row, 49 - owns.length()).append(owns);
+        pad(row, 56 - houses.length()).append(houses);
+        pad(row, 63 - hotels.length()).append(hotels);
+        return row.append("  ").append(position).toString();
+    }
+
+    private static StringBuilder pad(StringBuilder row, int width) {
+        do {
+            row.append(' ');
+        } while (row.length() < width);
+        return row;
+    }
+
+    private GameEngine load(String name) throws IOException {
+        GameEngine engine = new GameEngine();
+        if (!engine.loadGame(name)) throw new IOException("Could not load save " + name);
+        return engine;
+    }
+
+    private String name() {
+        if (words.isEmpty()) throw new IllegalArgumentException("Expected a save name (from savedata/)");
+        return words.get(0);
+    }
+
+    private Rules rules() throws IOException {
+        return settings.containsKey("rules") ? Rules.Get(get("rules", null)) : Rules.Default();
+    }
+
+    private String get(String key, String fallback) {
+        return settings.getOrDefault(key, fallback);
+    }
+
+    //! "Expected value" -> "ExpectedValue", so player names stay one word
+    private static String oneWord(String name) {
+        StringBuilder out = new StringBuilder();
+        for (String word : name.split(" ")) {
+            if (word.isEmpty()) continue;
+            out.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+        return out.toString();
+    }
+
+    //! Built-in strategy names without spaces, case-insensitive, like Tournament's
+    private static PlayerStrategy strategy(String name) {
+        for (String builtIn : PlayerStrategy.BUILT_IN) {
+            if (builtIn.replace(" ", "").equalsIgnoreCase(name)) return PlayerStrategy.byName(builtIn);
+        }
+        throw new IllegalArgumentException("Unknown strategy " + name + ", expected one of " + Arrays.toString(PlayerStrategy.BUILT_IN));
+    }
+}
@@ -0,0 +1,329 @@
+package monopoly;
+
+//? GameEngine's turn rules, run against a GameState instead of Player/Property objects.
+//? The engine only holds read-only board data flattened into arrays, so one instance can drive any
+//? number of states (one at a time). The RNG state lives in the GameState too, so copies diverge only by choice.
+//! Keep the rules in step with GameEngine.
+public class CompactEngine {
+    private final Rules rules;
+    private final GameRandom rng = new GameRandom(0); //! Scratch generator, loaded from / stored to each GameState
+
+    private final int boardSize;
+    private final int jailIndex;
+    private final int[] slotOfIndex;    //! Board index -> property slot, -1 for non-properties
+    private final Rules.SpaceType[] types;
+    private final int[] tax;            //! Per board index, amount due on TAX spaces
+
+    private final int[] price;          //! Per slot
+    private final int[] baseRent;
+    private final int[] housePrice;
+    private final int[] colorSetOf;
+    private final int[] indexOfSlot;
+    private final int[][] colorSetSlots;
+
+    public CompactEngine(Board board) {
+        this(board.rules);
+    }
+
+    //! Needs no Board at all: everything comes from the rule set's shared BoardTemplate
+    public CompactEngine(Rules rules) {
+        this.rules = rules;
+        BoardTemplate template = rules.template;
+
+        this.boardSize = template.getSize();
+        this.jailIndex = template.getJailIndex();
+        this.slotOfIndex = new int[boardSize];
+        this.types = new Rules.SpaceType[boardSize];
+        this.tax = new int[boardSize];
+
+        int count = template.getPropertyCount();
+        this.price = new int[count];
+        this.baseRent = new int[count];
+        this.housePrice = new int[count];
+        this.colorSetOf = new int[count];
+        this.indexOfSlot = new int[count];
+
+        for (int index = 0; index < boardSize; index++) {
+            types[index] = template.getSpaceType(index);
+            slotOfIndex[index] = template.getSlot(index);
+            tax[index] = template.getTax(index);
+        }
+
+        for (int slot = 0; slot < count; slot++) {
+            PropertyTemplate property = template.getProperty(slot);
+            price[slot] = property.price;
+            baseRent[slot] = property.baseRent;
+            housePrice[slot] = property.housePrice;
+            colorSetOf[slot] = property.colorSetId;
+            indexOfSlot[slot] = property.index;
+        }
+
+        this.colorSetSlots = new int[template.getColorSetCount()][];
+        for (int set = 0; set < colorSetSlots.length; set++) {
+            colorSetSlots[set] = new int[template.getColorSetSize(set)];
+            for (int i = 0; i < colorSetSlots[set].length; i++) {
+                colorSetSlots[set][i] = template.getColorSetSlot(set, i);
+            }
+        }
+    }
+
+    public int getPropertyCount() {
+        return price.length;
+    }
+
+    public int getPrice(int slot) {
+        return price[slot];
+    }
+
+    public int getHousePrice(int slot) {
+        return housePrice[slot];
+    }
+
+    //? Cash plus what the seat paid for its properties and buildings; 0 once bankrupt.
+    //! A hotel keeps its four houses (see buildHotel), so it adds one more house price, not five.
+    public int netWorth(GameState state, int seat) {
+        if (state.bankrupt[seat]) return 0;
+
+        int worth = state.cash[seat];
+        for (int slot = 0; slot < state.propertyCount; slot++) {
+            if (state.owner[slot] != seat) continue;
+            worth += price[slot] + housePrice[slot] * (state.houses[slot] + (state.hotel[slot] ? 1 : 0));
+        }
+        return worth;
+    }
+
+    public int getBoardIndex(int slot) {
+        return indexOfSlot[slot];
+    }
+
+    public GameState newGame(int playerCount, GameRandom random) {
+        return GameState.newGame(rules, price.length, playerCount, random);
+    }
+
+    public int getRent(GameState state, int slot) {
+        if (state.hotel[slot]) {
+            return baseRent[slot] * 6;
+        }
+        return baseRent[slot] * (1 + state.houses[slot]);
+    }
+
+    //? Same flow as GameEngine.rollDice(). Returns rent paid this roll (0 if none), handy for stats.
+    public int rollDice(GameState state) {
+        rng.setState(state.rngSeed, state.rngGamma);
+        int rent = roll(state);
+        state.rngSeed = rng.getSeed();
+        return rent;
+    }
+
+    private int roll(GameState state) {
+        int player = state.currentPlayer;
+
+        if (state.inJail[player]) {
+            if (!pay(state, player, rules.jailFee)) {
+                bankrupt(state, player);
+                advanceTurn(state);
+                return 0;
+            }
+            state.inJail[player] = false;
+        }
+
+        int dice1 = 1 + rng.nextInt(6);
+        int dice2 = 1 + rng.nextInt(6);
+        state.lastDice1 = dice1;
+        state.lastDice2 = dice2;
+        boolean isDoubles = dice1 == dice2;
+
+        if (isDoubles) {
+            state.consecutiveDoubles[player]++;
+            if (state.consecutiveDoubles[player] >= rules.maxConsecutiveDoubles) {
+                jail(state, player);
+                advanceTurn(state);
+                return 0;
+            }
+        }
+
+        int raw = state.position[player] + dice1 + dice2;
+        int newPos = raw % boardSize;
+        state.position[player] = newPos;
+
+        if (raw >= boardSize) {
+            state.cash[player] += rules.goReward;
+        }
+
+        int rent = onLanding(state, player, newPos);
+
+        if (state.bankrupt[player]) {
+            state.consecutiveDoubles[player] = 0;
+            advanceTurn(state);
+        } else if (!isDoubles && state.pendingSlot < 0) {
+            state.consecutiveDoubles[player] = 0;
+            advanceTurn(state);
+        }
+
+        return rent;
+    }
+
+    private int onLanding(GameState state, int player, int index) {
+        int slot = slotOfIndex[index];
+
+        if (slot >= 0) {
+            int owner = state.owner[slot];
+
+            if (owner == GameState.UNOWNED) {
+                if (state.cash[player] >= price[slot]) {
+                    state.pendingSlot = slot;
+                }
+            } else if (owner != player) {
+                int rent = getRent(state, slot);
+                if (pay(state, player, rent)) {
+                    state.cash[owner] += rent;
+                    return rent;
+                }
+                bankrupt(state, player);
+            }
+            return 0;
+        }
+
+        if (types[index] == Rules.SpaceType.CHANCE) {
+            drawCard(state, player, Card.CHANCE_DECK);
+        } else if (types[index] == Rules.SpaceType.COMMUNITY_CHEST) {
+            drawCard(state, player, Card.COMMUNITY_CHEST_DECK);
+        } else if (types[index] == Rules.SpaceType.GO_TO_JAIL) {
+            jail(state, player);
+        } else if (types[index] == Rules.SpaceType.TAX) {
+            if (!pay(state, player, tax[index])) {
+                bankrupt(state, player);
+            }
+        }
+        return 0;
+    }
+
+    private void drawCard(GameState state, int player, Card[] deck) {
+        Card card = deck[rng.nextInt(deck.length)];
+
+        switch (card.effect) {
+            case ADVANCE_TO_GO:
+                state.position[player] = rules.goIndex;
+                state.cash[player] += rules.goReward;
+                break;
+            case COLLECT:
+                state.cash[player] += card.amount;
+                break;
+            case PAY:
+                if (!pay(state, player, card.amount)) {
+                    bankrupt(state, player);
+                }
+                break;
+            case GO_TO_JAIL:
+                jail(state, player);
+                break;
+            default:
+                break;
+        }
+    }
+
+    public void buyProperty(GameState state) {
+        int slot = state.pendingSlot;
+        if (slot < 0) return;
+
+        int player = state.currentPlayer;
+        pay(state, player, price[slot]);
+        state.ownProperties();
+        state.owner[slot] = (byte) player;
+        finishDecision(state);
+    }
+
+    public void declineProperty(GameState state) {
+        if (state.pendingSlot < 0) return;
+        finishDecision(state);
+    }
+
+    private void finishDecision(GameState state) {
+        state.pendingSlot = -1;
+
+        if (state.lastDice1 != state.lastDice2) {
+            state.consecutiveDoubles[state.currentPlayer] = 0;
+            advanceTurn(state);
+        }
+    }
+
+    public boolean ownsColorSet(GameState state, int player, int slot) {
+        for (int member : colorSetSlots[colorSetOf[slot]]) {
+            if (state.owner[member] != player) return false;
+        }
+        return true;
+    }
+
+    public boolean canBuildHouse(GameState state, int slot) {
+        int player = state.owner[slot];
+        if (player == GameState.UNOWNED || !ownsColorSet(state, player, slot)) return false;
+
+        return housePrice[slot] > 0 && state.houses[slot] < 4 && !state.hotel[slot] && state.cash[player] >= housePrice[slot];
+    }
+
+    public boolean canBuildHotel(GameState state, int slot) {
+        int player = state.owner[slot];
+        if (player == GameState.UNOWNED || !ownsColorSet(state, player, slot)) return false;
+
+        for (int member : colorSetSlots[colorSetOf[slot]]) {
+            if (state.houses[member] != 4) return false;
+        }
+
+        return housePrice[slot] > 0 && !state.hotel[slot] && state.cash[player] >= housePrice[slot];
+    }
+
+    public void buildHouse(GameState state, int slot) {
+        if (!canBuildHouse(state, slot)) return;
+
+        state.cash[state.owner[slot]] -= housePrice[slot];
+        state.ownProperties();
+        state.houses[slot]++;
+    }
+
+    public void buildHotel(GameState state, int slot) {
+        if (!canBuildHotel(state, slot)) return;
+
+        state.cash[state.owner[slot]] -= housePrice[slot];
+        state.ownProperties();
+        state.hotel[slot] = true;
+    }
+
+    private boolean pay(GameState state, int player, int amount) {
+        if (state.cash[player] >= amount) {
+            state.cash[player] -= amount;
+            return true;
+        }
+        return false;
+    }
+
+    private void jail(GameState state, int player) {
+        state.position[player] = jailIndex;
+        state.inJail[player] = true;
+        state.consecutiveDoubles[player] = 0;
+    }
+
+    private void bankrupt(GameState state, int player) {
+        state.bankrupt[player] = true;
+        state.cash[player] = 0;
+
+        for (int slot = 0; slot < state.propertyCount; slot++) {
+            if (state.owner[slot] == player) {
+                state.ownProperties();
+                state.owner[slot] = GameState.UNOWNED;
+                state.houses[slot] = 0;
+                state.hotel[slot] = false;
+            }
+        }
+    }
+
+    private void advanceTurn(GameState state) {
+        int count = state.playerCount;
+        state.currentPlayer = (state.currentPlayer + 1) % count;
+
+        int safetySteps = 0;
+        while (state.bankrupt[state.currentPlayer] && safetySteps < count) {
+            state.currentPlayer = (state.currentPlayer + 1) % count;
+            safetySteps++;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package monopoly;
+
+//? What a PlayerStrategy gets to look at: its own fork of the game, the seat deciding, and a deadline.
+//? The live GameEngine is never handed to a strategy, so bots can think on any thread.
+public final class Decision {
+    public final Rules rules;
+    public final GameState state; //! A private fork, the strategy may play it forward however it likes
+    public final int seat;
+    private final long deadline;  //! System.nanoTime() the answer is due by
+    private CompactEngine engine;
+
+    private Decision(Rules rules, GameState state, int seat, long budgetNanos) {
+        this.rules = rules;
+        this.state = state;
+        this.seat = seat;
+        this.deadline = System.nanoTime() + budgetNanos;
+    }
+
+    //! Call on the thread that owns `game` (the FX thread for the UI); only copying happens here.
+    public static Decision of(GameEngine game, long budgetNanos) {
+        GameSnapshot published = game.getSnapshot();
+        if (published != null) return of(published, budgetNanos);
+        return new Decision(game.getRules(), game.toState(), game.getCurrentPlayerIndex(), budgetNanos);
+    }
+
+    //! Any thread: decides on a published snapshot
+    public static Decision of(GameSnapshot snapshot, long budgetNanos) {
+        return new Decision(snapshot.getRules(), snapshot.toState(), snapshot.getCurrentPlayer(), budgetNanos);
+    }
+
+    public static Decision of(Rules rules, GameState state, long budgetNanos) {
+        return new Decision(rules, state.fork(), state.currentPlayer, budgetNanos);
+    }
+
+    //? A CompactEngine for this decision's rules (made on first use, not shared across threads).
+    public CompactEngine getEngine() {
+        if (engine == null) engine = new CompactEngine(rules);
+        return engine;
+    }
+
+    public long getDeadline() {
+        return deadline;
+    }
+
+    public long getRemainingNanos() {
+        return deadline - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        return getRemainingNanos() <= 0;
+    }
+}
@@ -0,0 +1,70 @@
+package monopoly;
+
+//? Uses the board's exact landing odds (LandingAnalysis). Keeps a cash reserve sized to the rent it expects
+//? to pay opponents over the next few rolls, and builds where one more house adds the most expected rent per dollar.
+public class ExpectedValueStrategy implements PlayerStrategy {
+    public static final String NAME = "Expected value";
+
+    private final int minReserve;
+    private final int horizonRolls; //! How many rolls of expected rent the reserve should cover
+
+    public ExpectedValueStrategy() {
+        this(50, 15);
+    }
+
+    public ExpectedValueStrategy(int minReserve, int horizonRolls) {
+        this.minReserve = minReserve;
+        this.horizonRolls = horizonRolls;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean shouldBuy(Decision decision) {
+        GameState state = decision.state;
+        return state.cash[decision.seat] - decision.getEngine().getPrice(state.pendingSlot) >= reserve(decision);
+    }
+
+    @Override
+    public int chooseBuild(Decision decision) {
+        GameState state = decision.state;
+        CompactEngine engine = decision.getEngine();
+        LandingAnalysis analysis = LandingAnalysis.Of(decision.rules);
+        int budget = state.cash[decision.seat] - reserve(decision);
+
+        int best = -1;
+        double bestGain = 0;
+        for (int slot = 0; slot < state.propertyCount; slot++) {
+            if (state.owner[slot] != decision.seat || engine.getHousePrice(slot) > budget) continue;
+            if (!engine.canBuildHotel(state, slot) && !engine.canBuildHouse(state, slot)) continue;
+
+            int level = level(state, slot);
+            double gain = (analysis.getExpectedRent(slot, level + 1) - analysis.getExpectedRent(slot, level)) / engine.getHousePrice(slot);
+            if (gain > bestGain) {
+                bestGain = gain;
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    private int reserve(Decision decision) {
+        GameState state = decision.state;
+        LandingAnalysis analysis = LandingAnalysis.Of(decision.rules);
+
+        double exposure = 0; //! Expected rent paid per own roll
+        for (int slot = 0; slot < state.propertyCount; slot++) {
+            int owner = state.owner[slot];
+            if (owner == GameState.UNOWNED || owner == decision.seat || state.bankrupt[owner]) continue;
+            exposure += analysis.getExpectedRent(slot, level(state, slot));
+        }
+        return minReserve + (int) Math.ceil(exposure * horizonRolls);
+    }
+
+    static int level(GameState state, int slot) {
+        return state.hotel[slot] ? LandingAnalysis.HOTEL : state.houses[slot];
+    }
+}
@@ -0,0 +1,96 @@
+package monopoly;
+
+//? One player action, as a value that can be queued from any thread (see GameCommandQueue).
+//? apply() runs on the engine's owning thread and throws IllegalStateException if the action isn't legal now,
+//? instead of GameEngine's silent no-op, so whoever sent it finds out.
+public interface GameCommand {
+    void apply(GameEngine engine);
+
+    RollDice ROLL_DICE = new RollDice();
+    Buy BUY = new Buy();
+    Decline DECLINE = new Decline();
+
+    static Build build(int slot) {
+        return new Build(slot);
+    }
+
+    final class RollDice implements GameCommand {
+        private RollDice() {
+        }
+
+        @Override
+        public void apply(GameEngine engine) {
+            if (engine.isGameOver()) throw new IllegalStateException("Game is over");
+            if (engine.isWaitingForPropertyDecision()) throw new IllegalStateException("Buy or decline first");
+            engine.rollDice();
+        }
+
+        @Override
+        public String toString() {
+            return "RollDice";
+        }
+    }
+
+    final class Buy implements GameCommand {
+        private Buy() {
+        }
+
+        @Override
+        public void apply(GameEngine engine) {
+            if (!engine.isWaitingForPropertyDecision()) throw new IllegalStateException("Nothing to buy");
+            engine.buyProperty();
+        }
+
+        @Override
+        public String toString() {
+            return "Buy";
+        }
+    }
+
+    final class Decline implements GameCommand {
+        private Decline() {
+        }
+
+        @Override
+        public void apply(GameEngine engine) {
+            if (!engine.isWaitingForPropertyDecision()) throw new IllegalStateException("Nothing to decline");
+            engine.declineProperty();
+        }
+
+        @Override
+        public String toString() {
+            return "Decline";
+        }
+    }
+
+    //? A hotel where one is allowed, otherwise a house, on a property the current player owns.
+    final class Build implements GameCommand {
+        public final int slot;
+
+        private Build(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public void apply(GameEngine engine) {
+            Board board = engine.getBoard();
+            if (slot < 0 || slot >= board.getPropertyCount()) throw new IllegalArgumentException("No property slot " + slot);
+
+            Property property = board.getPropertyInSlot(slot);
+            if (property.owner != engine.getCurrentPlayer()) throw new IllegalStateException("Not the current player's property");
+
+            if (engine.canBuildHotel(property)) {
+                engine.buildHotel(property);
+            } else if (engine.canBuildHouse(property)) {
+                engine.buildHouse(property);
+            } else {
+                throw new IllegalStateException("Can't build on " + property.getName());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Build " + slot;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package monopoly;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+//? Thread-safe front end for one GameEngine. Any thread may submit GameCommands; they run one at a time, in
+//? submission order, on the engine's own single writer, and nothing else touches the engine. The engine
+//? publishes an immutable GameSnapshot after each action (GameEngine.getSnapshot), so readers on any thread
+//? get a consistent view with one volatile read and never block the writer.
+//!
+//! Once an engine is behind a queue, only use it through the queue (submit / call).
+public class GameCommandQueue implements Closeable {
+    private final GameEngine engine;
+    private final Executor writer;
+    private final ExecutorService ownThread; //! null when running on a shared pool
+
+    //? Gives the engine a dedicated daemon thread.
+    public GameCommandQueue(GameEngine engine) {
+        this.engine = engine;
+        this.ownThread = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "monopoly-engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writer = ownThread;
+        engine.setSnapshotsEnabled(true); //! Caller still owns the engine here
+    }
+
+    //? Runs the engine's commands on a shared pool through a Mailbox (e.g. many server games, no thread each).
+    public GameCommandQueue(GameEngine engine, Executor pool) {
+        this.engine = engine;
+        this.ownThread = null;
+        this.writer = new Mailbox(pool);
+        engine.setSnapshotsEnabled(true);
+    }
+
+    //? Latest published state. Never blocks; may be one command behind a submit that hasn't completed yet.
+    public GameSnapshot getSnapshot() {
+        return engine.getSnapshot();
+    }
+
+    //? Queues a command. Completes with the snapshot taken right after it, or exceptionally if it wasn't legal.
+    public CompletableFuture<GameSnapshot> submit(GameCommand command) {
+        CompletableFuture<GameSnapshot> result = new CompletableFuture<>();
+        writer.execute(() -> {
+            try {
+                command.apply(engine);
+                result.complete(engine.getSnapshot());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    //? Runs anything else against the engine on its writer (e.g. newGame, loadGame).
+    public <T> CompletableFuture<T> call(Function<GameEngine, T> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        writer.execute(() -> {
+            try {
+                result.complete(action.apply(engine));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (ownThread != null) ownThread.shutdown();
+    }
+}
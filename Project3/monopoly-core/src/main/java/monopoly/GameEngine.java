@@ -0,0 +1,605 @@
+package monopoly;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+public class GameEngine {
+    private Rules rules;
+    private Board board;
+    private final List<Player> players = new ArrayList<>();
+    private int currentPlayerIndex = 0;
+    private final GameRandom rng;
+    
+    private int lastDice1 = 0;
+    private int lastDice2 = 0;
+    private GameEventStream events = null; //! null = nobody listening, no events are produced
+    private TurnJournal journal = null;
+    
+    //! Replay feeds recorded dice/card draws back in instead of asking the RNG
+    private boolean replaying = false;
+    private int replayDice1 = 0;
+    private int replayDice2 = 0;
+    private int replayCard = -1;
+    private int drawnCard = -1;
+    private Property pendingProperty = null;
+    private boolean waitingForPropertyDecision = false;
+    private boolean turnInProgress = false;
+    private int lastRentPaid = 0;
+    private int lastRentIndex = -1;
+    
+    //! Published after every committed action, for readers on other threads (see getSnapshot). Off by default
+    //! so batch runs don't pay for it. The board data is shared with the previous snapshot unless it changed.
+    private boolean snapshotsEnabled = false;
+    private volatile GameSnapshot snapshot = null;
+    private Board snapshotBoard = null;
+    private int snapshotBoardVersion = 0;
+    
+    public GameEngine() {
+        this(new GameRandom());
+    }
+    
+    public GameEngine(long seed) {
+        this(new GameRandom(seed));
+    }
+    
+    //? Lets headless drivers (Simulator) hand every game its own seeded RNG stream.
+    public GameEngine(GameRandom rng) {
+        this.rng = rng;
+    }
+    
+    public void newGame(List<String> playerNames) {
+        newGame(playerNames, Rules.Default());
+    }
+    
+    public void newGame(List<String> playerNames, Rules rules) {
+        this.rules = rules;
+        board = new Board(rules);
+        players.clear();
+        
+        for (String name : playerNames) {
+            if (name == null || name.isEmpty()) name = "Player" + (players.size() + 1);
+            players.add(new Player(name, rules.startCash, rules.goIndex));
+        }
+        
+        currentPlayerIndex = 0;
+        publish();
+    }
+    
+    //? Prefers the binary .sav snapshot (plus its turn journal, if any), falls back to the older .txt format.
+    public boolean loadGame(String fileName) {
+        if (SaveLoad.HasBinary(fileName)) {
+            return TurnJournal.recover(fileName, this) >= 0;
+        }
+        
+        Rules[] rulesOut = new Rules[1];
+        Board[] boardOut = new Board[1];
+        int[] indexOut = new int[1];
+        
+        boolean success = SaveLoad.Load(fileName, rulesOut, boardOut, players, indexOut);
+        
+        if (success) {
+            this.rules = rulesOut[0];
+            this.board = boardOut[0];
+            this.currentPlayerIndex = indexOut[0];
+            publish();
+        }
+        
+        return success;
+    }
+    
+    public boolean saveGame(String fileName) {
+        return SaveLoad.SaveBinary(SaveLoad.BinaryPath(fileName), this);
+    }
+    
+    //? Copies the state right away, writes it on the background save thread.
+    public CompletableFuture<Boolean> saveGameAsync(String fileName) {
+        return SaveLoad.SaveBinaryAsync(SaveLoad.BinaryPath(fileName), this);
+    }
+    
+    //! Used by SaveLoad to swap in a fully decoded game.
+    void restore(Rules rules, Board board, List<Player> players, GameState state) {
+        this.rules = rules;
+        this.board = board;
+        this.players.clear();
+        this.players.addAll(players);
+        applyState(state);
+    }
+    
+    //? Copies the live game into a compact GameState (see CompactEngine). Seats follow getPlayers() order.
+    public GameState toState() {
+        GameState state = new GameState(players.size(), board.getPropertyCount());
+        
+        for (int slot = 0; slot < board.getPropertyCount(); slot++) {
+            Property property = board.getPropertyInSlot(slot);
+            state.owner[slot] = property.owner == null ? GameState.UNOWNED : (byte) players.indexOf(property.owner);
+            state.houses[slot] = (byte) property.houses;
+            state.hotel[slot] = property.hasHotel;
+        }
+        
+        copyTurnTo(state);
+        return state;
+    }
+    
+    //! Everything in toState() except the per-property arrays
+    void copyTurnTo(GameState state) {
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            state.cash[i] = player.cash;
+            state.position[i] = player.position;
+            state.consecutiveDoubles[i] = (byte) player.consecutiveDoubles;
+            state.inJail[i] = player.inJail;
+            state.bankrupt[i] = player.isBankrupt;
+        }
+        
+        state.currentPlayer = currentPlayerIndex;
+        state.lastDice1 = lastDice1;
+        state.lastDice2 = lastDice2;
+        state.pendingSlot = pendingProperty == null ? -1 : pendingProperty.getSlot();
+        state.rngSeed = rng.getSeed();
+        state.rngGamma = rng.getGamma();
+    }
+    
+    //? Turns snapshot publishing on or off. Call on the thread that drives the engine; enabling publishes one right away.
+    public void setSnapshotsEnabled(boolean enabled) {
+        snapshotsEnabled = enabled;
+        snapshot = null;
+        snapshotBoard = null;
+        publish();
+    }
+    
+    //? The game as of the last committed action (roll, buy, decline, build, load...), or null if snapshots are off.
+    //? Safe to call from any thread: one volatile read, and the snapshot never changes afterwards.
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+    
+    private void publish() {
+        if (!snapshotsEnabled || board == null) return;
+        
+        GameSnapshot previous = snapshot;
+        if (previous != null && snapshotBoard == board && snapshotBoardVersion == board.getVersion()) {
+            snapshot = previous.next(this);
+        } else {
+            snapshot = GameSnapshot.Of(previous == null ? 0 : previous.getVersion() + 1, this);
+            snapshotBoard = board;
+            snapshotBoardVersion = board.getVersion();
+        }
+    }
+    
+    //? A fully independent copy of this game, mid-turn (pending buy decision and RNG included), sharing only the
+    //? immutable Rules/BoardTemplate. No listeners, event stream or journal are carried over.
+    //! For thousands of lookahead forks, fork a GameState (toState().fork()) and play it on a CompactEngine instead.
+    public GameEngine fork() {
+        GameEngine fork = new GameEngine(rng.copy());
+        fork.rules = rules;
+        fork.board = new Board(rules);
+        for (Player player : players) {
+            fork.players.add(new Player(player.name, player.cash, player.position));
+        }
+        fork.applyState(toState());
+        return fork;
+    }
+    
+    //? Overwrites this game with a GameState, e.g. after playing it forward in a CompactEngine. Player count must match.
+    public void applyState(GameState state) {
+        if (state.playerCount != players.size() || state.propertyCount != board.getPropertyCount()) {
+            throw new IllegalArgumentException("GameState does not match this game");
+        }
+        
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            player.consecutiveDoubles = state.consecutiveDoubles[i];
+            player.setCash(state.cash[i]);
+            player.setPosition(state.position[i]);
+            player.setInJail(state.inJail[i]);
+            player.setBankrupt(state.bankrupt[i]);
+        }
+        
+        for (int slot = 0; slot < board.getPropertyCount(); slot++) {
+            Property property = board.getPropertyInSlot(slot);
+            int owner = state.owner[slot];
+            property.setOwner(owner == GameState.UNOWNED ? null : players.get(owner));
+            property.setBuildings(state.houses[slot], state.hotel[slot]);
+        }
+        
+        currentPlayerIndex = state.currentPlayer;
+        lastDice1 = state.lastDice1;
+        lastDice2 = state.lastDice2;
+        pendingProperty = state.pendingSlot < 0 ? null : board.getPropertyInSlot(state.pendingSlot);
+        waitingForPropertyDecision = pendingProperty != null;
+        rng.setState(state.rngSeed, state.rngGamma);
+        publish();
+    }
+    
+    public List<Player> getPlayers() {
+        return players;
+    }
+    
+    public Player getCurrentPlayer() {
+        return players.get(currentPlayerIndex);
+    }
+    
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+    
+    public Board getBoard() {
+        return board;
+    }
+    
+    public Rules getRules() {
+        return rules;
+    }
+    
+    public GameRandom getRandom() {
+        return rng;
+    }
+    
+    public int[] getLastDiceRoll() {
+        return new int[]{lastDice1, lastDice2};
+    }
+    
+    //? Attach a stream to receive typed turn events (UI log, analytics). Headless runs leave it null.
+    public void setEventStream(GameEventStream events) {
+        this.events = events;
+    }
+    
+    public GameEventStream getEventStream() {
+        return events;
+    }
+    
+    //? Every action (roll outcome, buy, decline, build) is appended to the journal while one is attached.
+    public void setJournal(TurnJournal journal) {
+        this.journal = journal;
+    }
+    
+    public TurnJournal getJournal() {
+        return journal;
+    }
+    
+    public boolean isWaitingForPropertyDecision() {
+        return waitingForPropertyDecision;
+    }
+    
+    public Property getPendingProperty() {
+        return pendingProperty;
+    }
+    
+    //? Rent paid during the last roll (0 if none) and the board index it was paid on.
+    public int getLastRentPaid() {
+        return lastRentPaid;
+    }
+    
+    public int getLastRentIndex() {
+        return lastRentIndex;
+    }
+    
+    public void rollDice() {
+        if (turnInProgress) return; //! e.g. an event listener rolling again from inside a roll
+        
+        drawnCard = -1;
+        turnInProgress = true;
+        try {
+            playRoll();
+        } finally {
+            turnInProgress = false;
+        }
+        
+        publish(); //! Before logging: a journal compaction snapshots the published state
+        if (journal != null) journal.logRoll(this, lastDice1, lastDice2, drawnCard);
+    }
+    
+    //? Re-plays a roll from the journal: same as rollDice() but with recorded dice and card instead of the RNG.
+    void replayRoll(int dice1, int dice2, int card) {
+        replaying = true;
+        replayDice1 = dice1;
+        replayDice2 = dice2;
+        replayCard = card;
+        try {
+            playRoll();
+        } finally {
+            replaying = false;
+        }
+        publish();
+    }
+    
+    private void playRoll() {
+        Player player = getCurrentPlayer();
+        lastRentPaid = 0;
+        lastRentIndex = -1;
+        
+        if (player.inJail) {
+            if (!player.payCash(rules.jailFee)) {
+                bankruptPlayer(player);
+                advanceTurn();
+                return;
+            }
+            player.setInJail(false);
+            if (events != null) events.next(GameEvent.Type.JAIL_FEE_PAID, player).amount = rules.jailFee;
+        }
+        
+        //! Replay still advances the RNG so a recovered game keeps the same stream afterwards
+        lastDice1 = 1 + rng.nextInt(6);
+        lastDice2 = 1 + rng.nextInt(6);
+        if (replaying) {
+            lastDice1 = replayDice1;
+            lastDice2 = replayDice2;
+        }
+        int diceSum = lastDice1 + lastDice2;
+        boolean isDoubles = (lastDice1 == lastDice2);
+        
+        if (events != null) {
+            GameEvent event = events.next(GameEvent.Type.DICE_ROLLED, player);
+            event.dice1 = lastDice1;
+            event.dice2 = lastDice2;
+        }
+        
+        if (isDoubles) {
+            player.consecutiveDoubles++;
+            if (player.consecutiveDoubles >= rules.maxConsecutiveDoubles) {
+                jailPlayer(player, null, -1);
+                advanceTurn();
+                return;
+            }
+        }
+        
+        int size = board.getSize();
+        int raw = player.position + diceSum;
+        int newPos = raw % size;
+        boolean hasPassedGo = raw >= size;
+        
+        player.setPosition(newPos);
+        
+        if (hasPassedGo) {
+            player.addCash(rules.goReward);
+            if (events != null) events.next(GameEvent.Type.PASSED_GO, player).amount = rules.goReward;
+        }
+        
+        onLanding(player, newPos);
+        
+        //! Going broke ends the turn even on doubles, or the bankrupt seat would keep rolling (and collecting at GO)
+        if (player.isBankrupt) {
+            player.resetDoubles();
+            advanceTurn();
+        } else if (!isDoubles && !waitingForPropertyDecision) {
+            player.resetDoubles();
+            advanceTurn();
+        }
+    }
+    
+    private void onLanding(Player player, int index) {
+        if (events != null) events.next(GameEvent.Type.LANDED, player).index = index;
+        
+        Property property = board.getProperty(index);
+        if (property != null) {
+            handlePropertyLanding(player, property, index);
+            return;
+        }
+        
+        Rules.SpaceType type = board.getSpaceType(index);
+        if (type == Rules.SpaceType.CHANCE) {
+            drawCard(player, Card.CHANCE_DECK);
+        } else if (type == Rules.SpaceType.COMMUNITY_CHEST) {
+            drawCard(player, Card.COMMUNITY_CHEST_DECK);
+        } else if (type == Rules.SpaceType.GO_TO_JAIL) {
+            jailPlayer(player, null, index);
+        } else if (type == Rules.SpaceType.TAX) {
+            int tax = board.template.getTax(index);
+            if (!player.payCash(tax)) {
+                bankruptPlayer(player);
+            } else if (events != null) {
+                GameEvent event = events.next(GameEvent.Type.TAX_PAID, player);
+                event.index = index;
+                event.amount = tax;
+            }
+        }
+    }
+    
+    private void handlePropertyLanding(Player player, Property property, int index) {
+        if (!property.isOwned()) {
+            if (player.cash >= property.getPrice()) {
+                pendingProperty = property;
+                waitingForPropertyDecision = true;
+            } else {
+                if (events != null) events.next(GameEvent.Type.CANNOT_AFFORD, player).index = index;
+            }
+        } else if (property.owner != player) {
+            int rent = property.getRent();
+            if (player.payCash(rent)) {
+                property.owner.addCash(rent);
+                lastRentPaid = rent;
+                lastRentIndex = index;
+                if (events != null) {
+                    GameEvent event = events.next(GameEvent.Type.RENT_PAID, player);
+                    event.index = index;
+                    event.amount = rent;
+                    event.other = property.owner;
+                }
+            } else {
+                bankruptPlayer(player);
+            }
+        }
+    }
+    
+    public void buyProperty() {
+        if (!waitingForPropertyDecision || pendingProperty == null) return;
+        
+        Player player = getCurrentPlayer();
+        player.payCash(pendingProperty.getPrice());
+        pendingProperty.setOwner(player);
+        if (events != null) {
+            GameEvent event = events.next(GameEvent.Type.BOUGHT, player);
+            event.index = player.position;
+            event.amount = pendingProperty.getPrice();
+        }
+        
+        waitingForPropertyDecision = false;
+        pendingProperty = null;
+        
+        if (lastDice1 != lastDice2) {
+            player.resetDoubles();
+            advanceTurn();
+        }
+        
+        publish();
+        if (journal != null) journal.logBuy(this);
+    }
+    
+    public void declineProperty() {
+        if (!waitingForPropertyDecision) return;
+        
+        if (events != null) events.next(GameEvent.Type.DECLINED, getCurrentPlayer()).index = getCurrentPlayer().position;
+        waitingForPropertyDecision = false;
+        pendingProperty = null;
+        
+        if (lastDice1 != lastDice2) {
+            getCurrentPlayer().resetDoubles();
+            advanceTurn();
+        }
+        
+        publish();
+        if (journal != null) journal.logDecline(this);
+    }
+    
+    private void drawCard(Player player, Card[] deck) {
+        drawnCard = rng.nextInt(deck.length);
+        if (replaying) drawnCard = replayCard;
+        Card card = deck[drawnCard];
+        if (events != null) events.next(GameEvent.Type.CARD_DRAWN, player).card = card;
+        
+        switch (card.effect) {
+            case ADVANCE_TO_GO:
+                player.setPosition(rules.goIndex);
+                player.addCash(rules.goReward);
+                break;
+            case COLLECT:
+                player.addCash(card.amount);
+                break;
+            case PAY:
+                if (!player.payCash(card.amount)) {
+                    bankruptPlayer(player);
+                }
+                break;
+            case GO_TO_JAIL:
+                jailPlayer(player, card, -1);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    public boolean canBuildHouse(Property property) {
+        Player player = property.owner;
+        if (player == null) return false;
+        
+        if (!board.ownsColorSet(player, property)) return false;
+        
+        return property.canBuildHouse() && player.cash >= property.getHousePrice();
+    }
+    
+    public boolean canBuildHotel(Property property) {
+        Player player = property.owner;
+        if (player == null) return false;
+        
+        if (!board.ownsColorSet(player, property)) return false;
+        
+        BoardTemplate template = board.template;
+        int colorSetId = property.template.colorSetId;
+        for (int i = 0; i < template.getColorSetSize(colorSetId); i++) {
+            if (board.getPropertyInSlot(template.getColorSetSlot(colorSetId, i)).houses != 4) return false;
+        }
+        
+        return property.canBuildHotel() && player.cash >= property.getHousePrice();
+    }
+    
+    public void buildHouse(Property property) {
+        if (!canBuildHouse(property)) return;
+        
+        property.owner.payCash(property.getHousePrice());
+        property.buildHouse();
+        
+        if (events != null) {
+            GameEvent event = events.next(GameEvent.Type.HOUSE_BUILT, property.owner);
+            event.index = property.getIndex();
+            event.amount = property.getHousePrice();
+        }
+        
+        publish();
+        if (journal != null) journal.logBuildHouse(this, property.getSlot());
+    }
+    
+    public void buildHotel(Property property) {
+        if (!canBuildHotel(property)) return;
+        
+        property.owner.payCash(property.getHousePrice());
+        property.buildHotel();
+        
+        if (events != null) {
+            GameEvent event = events.next(GameEvent.Type.HOTEL_BUILT, property.owner);
+            event.index = property.getIndex();
+            event.amount = property.getHousePrice();
+        }
+        
+        publish();
+        if (journal != null) journal.logBuildHotel(this, property.getSlot());
+    }
+    
+    private void advanceTurn() {
+        if (players.isEmpty()) return;
+        
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        
+        int safetySteps = 0;
+        while (players.get(currentPlayerIndex).isBankrupt && safetySteps < players.size()) {
+            currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+            safetySteps++;
+        }
+    }
+    
+    public boolean isGameOver() {
+        int alive = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (!players.get(i).isBankrupt) alive++;
+        }
+        return alive <= 1;
+    }
+    
+    public Player getWinner() {
+        List<Player> alive = getAlivePlayers();
+        return alive.size() == 1 ? alive.get(0) : null;
+    }
+    
+    private List<Player> getAlivePlayers() {
+        List<Player> alivePlayers = new ArrayList<>();
+        for (Player player : players) {
+            if (!player.isBankrupt) {
+                alivePlayers.add(player);
+            }
+        }
+        return alivePlayers;
+    }
+    
+    //? `card` / `fromIndex` say what sent them: a card, a GO_TO_JAIL space, or (both unset) three doubles.
+    private void jailPlayer(Player player, Card card, int fromIndex) {
+        player.setPosition(board.getJailIndex());
+        player.setInJail(true);
+        player.resetDoubles();
+        
+        if (events != null) {
+            GameEvent event = events.next(GameEvent.Type.JAILED, player);
+            event.card = card;
+            event.index = fromIndex;
+        }
+    }
+    
+    private void bankruptPlayer(Player player) {
+        player.setCash(0);
+        player.setBankrupt(true);
+        
+        if (events != null) events.next(GameEvent.Type.BANKRUPT, player);
+        
+        for (int slot = board.nextOwnedSlot(player, 0); slot >= 0; slot = board.nextOwnedSlot(player, slot + 1)) {
+            board.getPropertyInSlot(slot).releaseOwnership();
+        }
+    }
+}
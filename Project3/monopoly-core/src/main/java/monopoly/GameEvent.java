@@ -0,0 +1,82 @@
+package monopoly;
+
+//? One thing that happened during a turn. Instances are reusable ring-buffer slots owned by GameEventStream:
+//? read them inside GameEventListener.onEvent and copy what you need, they get overwritten later.
+public final class GameEvent {
+    public enum Type {
+        JAIL_FEE_PAID,  //! amount = fee
+        DICE_ROLLED,    //! dice1, dice2
+        PASSED_GO,      //! amount = GO reward
+        LANDED,         //! index = board index
+        CANNOT_AFFORD,  //! index = property the player couldn't buy
+        RENT_PAID,      //! index, amount, other = owner
+        BOUGHT,         //! index, amount = price
+        DECLINED,       //! index
+        CARD_DRAWN,     //! card
+        JAILED,         //! card = card that sent them, index = GO_TO_JAIL space; both unset for consecutive doubles
+        BANKRUPT,
+        HOUSE_BUILT,    //! index, amount = cost
+        HOTEL_BUILT,    //! index, amount = cost
+        TAX_PAID        //! index = TAX space, amount
+    }
+
+    public long sequence;
+    public Type type;
+    public Player player;
+    public Player other;
+    public int index;
+    public int amount;
+    public int dice1;
+    public int dice2;
+    public Card card;
+
+    void reset(long sequence, Type type, Player player) {
+        this.sequence = sequence;
+        this.type = type;
+        this.player = player;
+        this.other = null;
+        this.index = -1;
+        this.amount = 0;
+        this.dice1 = 0;
+        this.dice2 = 0;
+        this.card = null;
+    }
+
+    //? Human-readable line for the game log. Allocates, so only call it when the text is actually shown.
+    public String describe(Board board) {
+        String name = player == null ? "" : player.name;
+
+        switch (type) {
+            case JAIL_FEE_PAID:
+                return name + " paid $" + amount + " to get out of jail.";
+            case DICE_ROLLED:
+                return "Rolled: " + dice1 + " + " + dice2 + " = " + (dice1 + dice2) + (dice1 == dice2 ? " (DOUBLES!)" : "");
+            case PASSED_GO:
+                return name + " passed GO and collects $" + amount + ".";
+            case LANDED:
+                return name + " lands on " + board.getSpaceName(index) + ".";
+            case CANNOT_AFFORD:
+                return name + " cannot afford this property.";
+            case RENT_PAID:
+                return name + " paid $" + amount + " rent to " + other.name + ".";
+            case BOUGHT:
+                return name + " bought " + board.getSpaceName(index) + ".";
+            case DECLINED:
+                return name + " declined to buy.";
+            case CARD_DRAWN:
+                return card.deckName + ": " + card.text;
+            case TAX_PAID:
+                return name + " paid $" + amount + " " + board.getSpaceName(index) + ".";
+            case JAILED:
+                return card == null && index < 0 ? "Three consecutive doubles! " + name + " goes to Jail!" : name + " goes to Jail!";
+            case BANKRUPT:
+                return name + " cannot pay and goes bankrupt!";
+            case HOUSE_BUILT:
+                return "Built house on " + board.getSpaceName(index);
+            case HOTEL_BUILT:
+                return "Built hotel on " + board.getSpaceName(index);
+            default:
+                return type.name();
+        }
+    }
+}
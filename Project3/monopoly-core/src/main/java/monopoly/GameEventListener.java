@@ -0,0 +1,6 @@
+package monopoly;
+
+@FunctionalInterface
+public interface GameEventListener {
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,98 @@
+package monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//? Bounded ring buffer of GameEvents. The engine writes into preallocated slots, each Subscription
+//? keeps its own cursor and pulls with poll(). Subscribers that fall more than `capacity` events behind
+//? lose the oldest ones (counted in getDropped()) instead of making the engine wait or grow memory.
+//! Single-threaded: publish and poll from the thread that drives the GameEngine.
+public class GameEventStream {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final GameEvent[] ring;
+    private final int mask;
+    private long head = 0; //! Sequence number of the next event to write
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    public GameEventStream() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GameEventStream(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+
+        ring = new GameEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new GameEvent();
+        }
+        mask = capacity - 1;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    public long getHead() {
+        return head;
+    }
+
+    //? Claims the next slot, resets it and returns it for the engine to fill in.
+    GameEvent next(GameEvent.Type type, Player player) {
+        GameEvent event = ring[(int) (head & mask)];
+        event.reset(head, type, player);
+        head++;
+        return event;
+    }
+
+    public Subscription subscribe(GameEventListener listener) {
+        Subscription subscription = new Subscription(listener, head);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void unsubscribe(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    //? Delivers pending events to every subscriber.
+    public void pollAll() {
+        for (int i = 0; i < subscriptions.size(); i++) {
+            subscriptions.get(i).poll();
+        }
+    }
+
+    public class Subscription {
+        private final GameEventListener listener;
+        private long cursor;
+        private long dropped = 0;
+
+        private Subscription(GameEventListener listener, long cursor) {
+            this.listener = listener;
+            this.cursor = cursor;
+        }
+
+        //? Delivers every event published since the last poll. Returns how many were delivered.
+        public int poll() {
+            long oldest = head - ring.length;
+            if (cursor < oldest) {
+                dropped += oldest - cursor;
+                cursor = oldest;
+            }
+
+            int delivered = 0;
+            while (cursor < head) {
+                listener.onEvent(ring[(int) (cursor & mask)]);
+                cursor++;
+                delivered++;
+            }
+            return delivered;
+        }
+
+        public long getDropped() {
+            return dropped;
+        }
+    }
+}
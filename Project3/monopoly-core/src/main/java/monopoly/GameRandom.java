@@ -0,0 +1,99 @@
+package monopoly;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+//? Dice/card RNG: SplitMix64, the same generator family as java.util.SplittableRandom, but with its
+//? state (seed + gamma) readable and restorable so saves, forks and replays continue bit-for-bit.
+//! Not thread-safe on purpose: every game owns one, nothing is shared or contended.
+public final class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final AtomicLong SEEDER = new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    private long seed;
+    private long gamma; //! Always odd
+
+    //? Unseeded: a different stream for every instance.
+    public GameRandom() {
+        this(mix64(SEEDER.getAndAdd(2 * GOLDEN_GAMMA)), mixGamma(SEEDER.getAndAdd(2 * GOLDEN_GAMMA)));
+    }
+
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    public GameRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma | 1L;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getGamma() {
+        return gamma;
+    }
+
+    public void setState(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma | 1L;
+    }
+
+    public GameRandom copy() {
+        return new GameRandom(seed, gamma);
+    }
+
+    public long nextLong() {
+        return mix64(seed += gamma);
+    }
+
+    public int nextInt() {
+        return mix32(seed += gamma);
+    }
+
+    //? Uniform in [0, bound), no modulo bias (same rejection scheme as SplittableRandom).
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive");
+
+        int r = mix32(seed += gamma);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(seed += gamma) >>> 1) {
+            //! reject and redraw
+        }
+        return r;
+    }
+
+    //? New independent generator; advances this one.
+    public GameRandom split() {
+        return new GameRandom(nextLong(), mixGamma(seed += gamma));
+    }
+
+    //? The generator split() would return after `index` earlier splits, without touching this one.
+    //? Parallel runs use this so game N gets the same stream no matter which thread plays it.
+    public GameRandom stream(long index) {
+        long base = seed + 2 * index * gamma;
+        return new GameRandom(mix64(base + gamma), mixGamma(base + 2 * gamma));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
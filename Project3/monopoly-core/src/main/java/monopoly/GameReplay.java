@@ -0,0 +1,170 @@
+package monopoly;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.LockSupport;
+
+//? Plays a recorded game (savedata/<name>.sav + its .journal, see TurnJournal.record) back at 1x-1000x.
+//?
+//? The recorded engine advances on its own thread. It never touches the UI: it hands over a GameState
+//? copy only once the previous one has been picked up, so however many actions happen between two frames
+//? the viewer pays for a single applyState + render. Log lines are kept in a bounded queue the same way.
+public class GameReplay {
+    public static final int DEFAULT_MAX_LINES = 500;
+    public static final double MIN_SPEED = 1;
+    public static final double MAX_SPEED = 1000;
+    private static final long STEP_NANOS_AT_1X = 500_000_000L; //! 1x = two recorded actions per second
+    private static final long MAX_LAG_NANOS = 100_000_000L;    //! Don't burst to catch up after a stall
+
+    private final Path snapshotPath;
+    private final GameEngine engine; //! Replay thread only
+    private final TurnJournal.Reader reader;
+    private final AtomicReference<GameState> published = new AtomicReference<>();
+    private final ArrayDeque<String> lines = new ArrayDeque<>();
+    private final int maxLines;
+
+    private volatile double speed = MIN_SPEED;
+    private volatile boolean paused = false;
+    private volatile boolean running = false;
+    private volatile boolean finished = false;
+    private volatile long stepsPlayed = 0;
+    private Thread thread;
+
+    private GameReplay(Path snapshotPath, GameEngine engine, TurnJournal.Reader reader, int maxLines) {
+        this.snapshotPath = snapshotPath;
+        this.engine = engine;
+        this.reader = reader;
+        this.maxLines = maxLines;
+
+        GameEventStream events = new GameEventStream();
+        engine.setEventStream(events);
+        events.subscribe(this::onGameEvent);
+    }
+
+    //? Opens a recording. Returns null if there's no binary save under that name.
+    public static GameReplay open(String fileName) throws IOException {
+        return open(fileName, DEFAULT_MAX_LINES);
+    }
+
+    public static GameReplay open(String fileName, int maxLines) throws IOException {
+        Path snapshotPath = SaveLoad.BinaryPath(fileName);
+        GameEngine engine = new GameEngine();
+        if (!SaveLoad.LoadBinary(snapshotPath, engine)) return null;
+
+        Path journalPath = TurnJournal.JournalPath(fileName);
+        TurnJournal.Reader reader = Files.isRegularFile(journalPath)
+                ? TurnJournal.Reader.open(journalPath, SaveLoad.Checksum(snapshotPath))
+                : null;
+        return new GameReplay(snapshotPath, engine, reader, maxLines);
+    }
+
+    //? A separate engine at the recording's starting position, for the viewer to render from
+    //? (feed it poll() results through applyState). Returns null if the save can't be read again.
+    public GameEngine createViewEngine() {
+        GameEngine view = new GameEngine();
+        return SaveLoad.LoadBinary(snapshotPath, view) ? view : null;
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::run, "monopoly-replay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    public void setSpeed(double speed) {
+        this.speed = Math.max(MIN_SPEED, Math.min(MAX_SPEED, speed));
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    //? True once every recorded action has been played (and the final state published).
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public long getStepsPlayed() {
+        return stepsPlayed;
+    }
+
+    //? The newest state since the last call, or null if nothing new. Meant to be called once per frame.
+    public GameState poll() {
+        return published.getAndSet(null);
+    }
+
+    //? Hands log lines produced since the last call to `log` (e.g. GameLogList::append). Returns how many.
+    public int drainLines(Consumer<String> log) {
+        synchronized (lines) {
+            int count = lines.size();
+            while (!lines.isEmpty()) {
+                log.accept(lines.poll());
+            }
+            return count;
+        }
+    }
+
+    private void run() {
+        long due = System.nanoTime();
+
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                if (paused) {
+                    LockSupport.park(this);
+                    due = System.nanoTime();
+                    continue;
+                }
+                if (now < due) {
+                    LockSupport.parkNanos(this, due - now);
+                    continue;
+                }
+
+                if (reader == null || engine.isGameOver() || !reader.step(engine)) break;
+                stepsPlayed++;
+                engine.getEventStream().pollAll();
+
+                due += (long) (STEP_NANOS_AT_1X / speed);
+                if (now - due > MAX_LAG_NANOS) due = now;
+
+                //! Only copy when the viewer has taken the last one; the states in between are never built
+                if (published.get() == null) published.set(engine.toState());
+            }
+        } catch (IOException e) {
+            System.out.println("Replay stopped: " + e.getMessage());
+        } finally {
+            published.set(engine.toState());
+            finished = true;
+            running = false;
+        }
+    }
+
+    private void onGameEvent(GameEvent event) {
+        String line = event.describe(engine.getBoard());
+        synchronized (lines) {
+            if (lines.size() == maxLines) lines.poll();
+            lines.add(line);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package monopoly;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+//? Hosts many games at once behind a local line-based socket protocol. Each game is a GameEngine behind a
+//? GameCommandQueue on a Mailbox: actions for one game run one at a time in arrival order, actions for different
+//? games run in parallel on a shared worker pool. No locks around the engine, and an idle game holds no thread.
+//? STATE goes through the game's queue like any action, so it reflects every earlier request for that game.
+//? PEEK reads the last published snapshot instead and never waits, so it can overtake requests still queued.
+//?
+//? Protocol, one request per line, one reply per request. The tag is any token the client picks; replies can
+//? come back out of order across games (never within one, PEEK aside), so the tag is what matches them up.
+//?   <tag> NEW [rules] [name,name,...]  -> <tag> OK <game>
+//?   <tag> ROLL <game> | BUY <game> | DECLINE <game> | BUILD <game> <slot> | STATE <game> | PEEK <game>
+//?                                      -> <tag> OK turn=<seat> pending=<slot> dice=<d1>,<d2> over=<0|1> cash=<c>,<c>...
+//?   <tag> CLOSE <game>                 -> <tag> OK
+//?   <tag> STATS                        -> <tag> OK sessions=<n>
+//?   anything wrong                     -> <tag> ERR <message>
+//!
+//! Loopback only, no authentication: a local test and scripting harness, not a public server.
+//! Connections get a thread each (there are few); games don't (there can be tens of thousands).
+public class GameServer implements Closeable {
+    public static final int DEFAULT_PORT = 7878;
+
+    private final ServerSocket serverSocket;
+    private final ForkJoinPool workers;
+    private final ExecutorService connections = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "monopoly-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Long, GameCommandQueue> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    //! Port 0 picks a free port (see getPort)
+    public GameServer(int port) throws IOException {
+        this(port, Runtime.getRuntime().availableProcessors());
+    }
+
+    public GameServer(int port, int workerThreads) throws IOException {
+        this.serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+        //! asyncMode: mailbox drains are independent event-style tasks, FIFO keeps them fair
+        this.workers = new ForkJoinPool(workerThreads, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    //? Accepts connections on a background thread until close().
+    public GameServer start() {
+        Thread acceptor = new Thread(this::acceptLoop, "monopoly-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return this;
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) System.out.println("Accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        //! Replies go out through their own mailbox: a slow reader must never stall the game workers.
+        //! The socket stays open after the client stops sending (EOF or half-close) until every reply it asked for is written.
+        Mailbox writer = new Mailbox(connections);
+        AtomicInteger unsent = new AtomicInteger();       //! Replies queued on `writer`; flush once it drains
+        AtomicInteger outstanding = new AtomicInteger(1); //! Replies not written yet, plus one held by the reader until EOF
+        BufferedWriter out;
+
+        try {
+            socket.setTcpNoDelay(true);
+            out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            hangUp(socket);
+            return;
+        }
+
+        try {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+
+                String[] words = line.trim().split("\\s+");
+                String tag = words[0];
+                outstanding.incrementAndGet();
+
+                CompletableFuture<String> reply;
+                try {
+                    reply = handle(Arrays.copyOfRange(words, 1, words.length));
+                } catch (RuntimeException e) {
+                    reply = failed(message(e)); //! Every counted request must get its reply, or the socket never closes
+                }
+                reply.whenComplete((result, error) -> {
+                    String text = error == null ? "OK" + (result.isEmpty() ? "" : " " + result) : "ERR " + message(error);
+                    unsent.incrementAndGet();
+                    writer.execute(() -> {
+                        try {
+                            out.write(tag + " " + text);
+                            out.newLine();
+                            if (unsent.decrementAndGet() == 0) out.flush();
+                        } catch (IOException e) {
+                            //! Client went away; its games stay open for anyone else holding the ids
+                        }
+                        release(socket, out, outstanding);
+                    });
+                });
+            }
+        } catch (SocketException e) {
+            //! Connection reset, same as a normal disconnect
+        } catch (IOException e) {
+            System.out.println("Connection error: " + e.getMessage());
+        } finally {
+            writer.execute(() -> release(socket, out, outstanding)); //! Drop the reader's hold
+        }
+    }
+
+    //! On the connection's writer: once the reader is done and the last reply is out, flush and hang up
+    private static void release(Socket socket, BufferedWriter out, AtomicInteger outstanding) {
+        if (outstanding.decrementAndGet() > 0) return;
+        try {
+            out.flush();
+        } catch (IOException e) {
+            //! Nobody left to tell
+        }
+        hangUp(socket);
+    }
+
+    private static void hangUp(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            //! Already gone
+        }
+    }
+
+    private static String message(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage() == null ? cause.toString() : cause.getMessage();
+    }
+
+    //? One request (without its tag). Engine work is posted to the game's mailbox; the future completes there.
+    CompletableFuture<String> handle(String[] words) {
+        if (words.length == 0) return failed("Empty request");
+        String command = words[0].toUpperCase();
+
+        if (command.equals("NEW")) return newGame(words);
+        if (command.equals("STATS")) return CompletableFuture.completedFuture("sessions=" + sessions.size());
+        if (words.length < 2) return failed(command + " needs a game id");
+
+        GameCommandQueue session;
+        try {
+            session = sessions.get(Long.parseLong(words[1]));
+        } catch (NumberFormatException e) {
+            return failed("Bad game id " + words[1]);
+        }
+        if (session == null) return failed("No game " + words[1]);
+
+        GameCommand action;
+        switch (command) {
+            case "STATE":
+                return session.call(GameEngine::getSnapshot).thenApply(GameServer::describe);
+            case "PEEK":
+                return CompletableFuture.completedFuture(describe(session.getSnapshot()));
+            case "ROLL":
+                action = GameCommand.ROLL_DICE;
+                break;
+            case "BUY":
+                action = GameCommand.BUY;
+                break;
+            case "DECLINE":
+                action = GameCommand.DECLINE;
+                break;
+            case "BUILD":
+                if (words.length < 3) return failed("BUILD needs a property slot");
+                try {
+                    action = GameCommand.build(Integer.parseInt(words[2]));
+                } catch (NumberFormatException e) {
+                    return failed("Bad slot " + words[2]);
+                }
+                break;
+            case "CLOSE":
+                sessions.remove(Long.parseLong(words[1]));
+                return session.call(engine -> ""); //! Replies after the game's earlier requests, like everything else
+            default:
+                return failed("Unknown command " + command);
+        }
+        return session.submit(action).thenApply(GameServer::describe);
+    }
+
+    private CompletableFuture<String> newGame(String[] words) {
+        Rules rules;
+        try {
+            rules = words.length > 1 ? Rules.Get(words[1]) : Rules.Default();
+        } catch (IOException e) {
+            return failed(e.getMessage());
+        }
+
+        List<String> names = new ArrayList<>();
+        if (words.length > 2) {
+            names.addAll(Arrays.asList(words[2].split(",")));
+        } else {
+            names.addAll(Arrays.asList("Player1", "Player2"));
+        }
+        if (names.size() < 2 || names.size() > 4) return failed("Need 2-4 players");
+
+        long id = nextId.getAndIncrement();
+        GameEngine engine = new GameEngine();
+        engine.newGame(names, rules); //! Not shared with anyone yet, so setting it up here is fine
+        sessions.put(id, new GameCommandQueue(engine, workers));
+        return CompletableFuture.completedFuture(String.valueOf(id));
+    }
+
+    private static String describe(GameSnapshot snapshot) {
+        StringBuilder out = new StringBuilder();
+
+        out.append("turn=").append(snapshot.getCurrentPlayer());
+        out.append(" pending=").append(snapshot.getPendingSlot());
+        out.append(" dice=").append(snapshot.getDice1()).append(',').append(snapshot.getDice2());
+        out.append(" over=").append(snapshot.isGameOver() ? 1 : 0);
+        out.append(" cash=");
+        for (int seat = 0; seat < snapshot.getPlayerCount(); seat++) {
+            if (seat > 0) out.append(',');
+            out.append(snapshot.getCash(seat));
+        }
+        return out.toString();
+    }
+
+    private static <T> CompletableFuture<T> failed(String message) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(new IllegalArgumentException(message));
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+        workers.shutdown();
+    }
+
+    //? java monopoly.GameServer [port]
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameServer server = new GameServer(port).start();
+        System.out.println("Monopoly server listening on 127.0.0.1:" + server.getPort());
+        Thread.currentThread().join(); //! Runs until killed
+    }
+}
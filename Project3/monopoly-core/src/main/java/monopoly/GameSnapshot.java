@@ -0,0 +1,132 @@
+package monopoly;
+
+import java.util.List;
+
+//? Immutable view of a game at one moment: safe to hand to any thread, never changes after it's made.
+//? Player data is indexed by seat, property data by Board slot (like GameState, which it wraps privately).
+//? GameEngine publishes one after every committed action (GameEngine.getSnapshot) when asked to.
+//! Consecutive snapshots share the per-property arrays until a buy, build or bankruptcy changes them (GameState.fork),
+//! so publishing after a plain roll only copies the per-player data.
+public final class GameSnapshot {
+    private final long version; //! Counts up by one per published snapshot of a game
+    private final Rules rules;
+    private final String[] names;
+    private final GameState state; //! Never escapes; its game data is never written after construction
+
+    private GameSnapshot(long version, Rules rules, String[] names, GameState state) {
+        this.version = version;
+        this.rules = rules;
+        this.names = names;
+        this.state = state;
+    }
+
+    //? A standalone snapshot with its own copy of everything. Call on the thread that owns the engine.
+    public static GameSnapshot Of(long version, GameEngine engine) {
+        List<Player> players = engine.getPlayers();
+        String[] names = new String[players.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = players.get(i).name;
+        }
+        return new GameSnapshot(version, engine.getRules(), names, engine.toState());
+    }
+
+    //! Same game, same board data: only player and turn state are taken from the engine
+    GameSnapshot next(GameEngine engine) {
+        GameState next = state.fork();
+        engine.copyTurnTo(next);
+        return new GameSnapshot(version + 1, rules, names, next);
+    }
+
+    //! For SaveLoad: the wrapped state, which nobody may write to
+    GameState state() {
+        return state;
+    }
+
+    public String[] getPlayerNames() {
+        return names.clone();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Rules getRules() {
+        return rules;
+    }
+
+    public int getPlayerCount() {
+        return state.playerCount;
+    }
+
+    public String getPlayerName(int seat) {
+        return names[seat];
+    }
+
+    public int getCash(int seat) {
+        return state.cash[seat];
+    }
+
+    public int getPosition(int seat) {
+        return state.position[seat];
+    }
+
+    public int getConsecutiveDoubles(int seat) {
+        return state.consecutiveDoubles[seat];
+    }
+
+    public boolean isInJail(int seat) {
+        return state.inJail[seat];
+    }
+
+    public boolean isBankrupt(int seat) {
+        return state.bankrupt[seat];
+    }
+
+    public int getPropertyCount() {
+        return state.propertyCount;
+    }
+
+    //? Owning seat, or -1 (GameState.UNOWNED)
+    public int getOwner(int slot) {
+        return state.owner[slot];
+    }
+
+    public int getHouses(int slot) {
+        return state.houses[slot];
+    }
+
+    public boolean hasHotel(int slot) {
+        return state.hotel[slot];
+    }
+
+    public int getCurrentPlayer() {
+        return state.currentPlayer;
+    }
+
+    public int getDice1() {
+        return state.lastDice1;
+    }
+
+    public int getDice2() {
+        return state.lastDice2;
+    }
+
+    //? Slot waiting for a buy/decline decision, -1 if none
+    public int getPendingSlot() {
+        return state.pendingSlot;
+    }
+
+    public boolean isGameOver() {
+        return state.isGameOver();
+    }
+
+    //? Winning seat, or -1 while the game is undecided
+    public int getWinner() {
+        return state.getWinner();
+    }
+
+    //? A private, writable copy, e.g. to play forward on a CompactEngine or hand to a PlayerStrategy.
+    public GameState toState() {
+        return state.copy();
+    }
+}
@@ -0,0 +1,172 @@
+package monopoly;
+
+import java.util.Arrays;
+
+//? Whole mutable state of one game in primitive arrays (struct-of-arrays). Player data is indexed by seat,
+//? property data by Board slot. Static board data (names, prices, rents) lives in the shared Board/Rules,
+//? so a 4-player game on the default board is a few hundred bytes and copy() is a handful of System.arraycopy calls.
+//?
+//? fork() is cheaper still: the per-property arrays are shared copy-on-write between a state and its forks
+//? (most turns only move players and cash), so a fork only copies the per-player arrays.
+//! Before writing owner/houses/hotel, call ownProperties() so a shared array gets copied first.
+public final class GameState {
+    public static final byte UNOWNED = -1;
+
+    public final int playerCount;
+    public final int propertyCount;
+
+    //! Per player (seat)
+    public final int[] cash;
+    public final int[] position;
+    public final byte[] consecutiveDoubles;
+    public final boolean[] inJail;
+    public final boolean[] bankrupt;
+
+    //! Per property slot, possibly shared with forks (see ownProperties)
+    public byte[] owner;
+    public byte[] houses;
+    public boolean[] hotel;
+    private boolean propertiesShared = false;
+
+    //! Turn state
+    public int currentPlayer = 0;
+    public int lastDice1 = 0;
+    public int lastDice2 = 0;
+    public int pendingSlot = -1; //! Property waiting for a buy/decline decision, -1 if none
+
+    //! GameRandom state, so a copied state rolls the same dice as the original
+    public long rngSeed;
+    public long rngGamma;
+
+    public GameState(int playerCount, int propertyCount) {
+        if (playerCount > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many players: " + playerCount);
+        }
+
+        this.playerCount = playerCount;
+        this.propertyCount = propertyCount;
+
+        this.cash = new int[playerCount];
+        this.position = new int[playerCount];
+        this.consecutiveDoubles = new byte[playerCount];
+        this.inJail = new boolean[playerCount];
+        this.bankrupt = new boolean[playerCount];
+
+        this.owner = new byte[propertyCount];
+        this.houses = new byte[propertyCount];
+        this.hotel = new boolean[propertyCount];
+        Arrays.fill(owner, UNOWNED);
+    }
+
+    public static GameState newGame(Rules rules, int propertyCount, int playerCount, GameRandom rng) {
+        GameState state = new GameState(playerCount, propertyCount);
+        state.rngSeed = rng.getSeed();
+        state.rngGamma = rng.getGamma();
+        for (int i = 0; i < playerCount; i++) {
+            state.cash[i] = rules.startCash;
+            state.position[i] = rules.goIndex;
+        }
+        return state;
+    }
+
+    public GameState copy() {
+        GameState copy = new GameState(playerCount, propertyCount);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    //? Independent copy that shares the property arrays with this state until either side writes to them.
+    //? Turn state, the pending buy decision and the RNG all carry over, so a fork rolls the same dice unless reseeded.
+    public GameState fork() {
+        GameState fork = new GameState(this);
+        propertiesShared = true;
+        return fork;
+    }
+
+    private GameState(GameState source) {
+        this.playerCount = source.playerCount;
+        this.propertyCount = source.propertyCount;
+
+        this.cash = source.cash.clone();
+        this.position = source.position.clone();
+        this.consecutiveDoubles = source.consecutiveDoubles.clone();
+        this.inJail = source.inJail.clone();
+        this.bankrupt = source.bankrupt.clone();
+
+        this.owner = source.owner;
+        this.houses = source.houses;
+        this.hotel = source.hotel;
+        this.propertiesShared = true;
+
+        copyTurnFrom(source);
+    }
+
+    //? Makes the property arrays private to this state (copying them if they're shared with a fork).
+    public void ownProperties() {
+        if (!propertiesShared) return;
+        owner = owner.clone();
+        houses = houses.clone();
+        hotel = hotel.clone();
+        propertiesShared = false;
+    }
+
+    //? Gives this state its own RNG stream, e.g. so Monte Carlo forks of one position roll different dice.
+    public void reseed(GameRandom rng) {
+        rngSeed = rng.getSeed();
+        rngGamma = rng.getGamma();
+    }
+
+    //? Overwrites this state with other's (same shape required). Lets hot loops reuse one instance.
+    public void copyFrom(GameState other) {
+        if (other.playerCount != playerCount || other.propertyCount != propertyCount) {
+            throw new IllegalArgumentException("GameState shapes differ");
+        }
+        ownProperties();
+
+        System.arraycopy(other.cash, 0, cash, 0, playerCount);
+        System.arraycopy(other.position, 0, position, 0, playerCount);
+        System.arraycopy(other.consecutiveDoubles, 0, consecutiveDoubles, 0, playerCount);
+        System.arraycopy(other.inJail, 0, inJail, 0, playerCount);
+        System.arraycopy(other.bankrupt, 0, bankrupt, 0, playerCount);
+
+        System.arraycopy(other.owner, 0, owner, 0, propertyCount);
+        System.arraycopy(other.houses, 0, houses, 0, propertyCount);
+        System.arraycopy(other.hotel, 0, hotel, 0, propertyCount);
+
+        copyTurnFrom(other);
+    }
+
+    private void copyTurnFrom(GameState other) {
+        currentPlayer = other.currentPlayer;
+        lastDice1 = other.lastDice1;
+        lastDice2 = other.lastDice2;
+        pendingSlot = other.pendingSlot;
+        rngSeed = other.rngSeed;
+        rngGamma = other.rngGamma;
+    }
+
+    public boolean isWaitingForPropertyDecision() {
+        return pendingSlot >= 0;
+    }
+
+    public int countAlive() {
+        int alive = 0;
+        for (int i = 0; i < playerCount; i++) {
+            if (!bankrupt[i]) alive++;
+        }
+        return alive;
+    }
+
+    public boolean isGameOver() {
+        return countAlive() <= 1;
+    }
+
+    //? Winning seat, or -1 if the game isn't decided.
+    public int getWinner() {
+        if (countAlive() != 1) return -1;
+        for (int i = 0; i < playerCount; i++) {
+            if (!bankrupt[i]) return i;
+        }
+        return -1;
+    }
+}
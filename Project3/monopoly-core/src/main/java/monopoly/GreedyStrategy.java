@@ -0,0 +1,36 @@
+package monopoly;
+
+//? Buys and builds whenever it can while keeping `reserve` cash. Instant; the baseline the other bots have to beat.
+public class GreedyStrategy implements PlayerStrategy {
+    public static final String NAME = "Greedy";
+
+    private final int reserve;
+
+    public GreedyStrategy(int reserve) {
+        this.reserve = reserve;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean shouldBuy(Decision decision) {
+        GameState state = decision.state;
+        return state.cash[decision.seat] - decision.getEngine().getPrice(state.pendingSlot) >= reserve;
+    }
+
+    @Override
+    public int chooseBuild(Decision decision) {
+        GameState state = decision.state;
+        CompactEngine engine = decision.getEngine();
+
+        for (int slot = 0; slot < state.propertyCount; slot++) {
+            if (state.owner[slot] != decision.seat) continue;
+            if (state.cash[decision.seat] - engine.getHousePrice(slot) < reserve) continue;
+            if (engine.canBuildHotel(state, slot) || engine.canBuildHouse(state, slot)) return slot;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,247 @@
+package monopoly;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//? Exact long-run landing odds for a rule set, from a Markov chain over single dice rolls, and the expected
+//? rent per opponent roll each property earns at every building level.
+//?
+//? Chain state = (position, consecutive doubles so far) plus one "in jail" state. It follows GameEngine's
+//? rules: two dice, a roll again on doubles, jail after maxConsecutiveDoubles doubles, GO_TO_JAIL spaces, and
+//? the moving Chance / Community Chest cards (ADVANCE_TO_GO, GO_TO_JAIL) drawn uniformly with replacement.
+//? Getting out of jail is "pay jailFee and roll", so jail only changes money, not movement.
+//!
+//! Each state has at most 36 outcomes (times the deck size), so the transition matrix is stored sparse (CSR) and
+//! solved by power iteration: a 40-space board converges in a few hundred cheap passes. Results are immutable
+//! and cached per Rules instance, so Of() is free after the first call.
+public final class LandingAnalysis {
+    private static final Map<Rules, LandingAnalysis> CACHE = new ConcurrentHashMap<>();
+    private static final double TOLERANCE = 1e-13; //! L1 change between passes
+    private static final int MAX_ITERATIONS = 100_000;
+    public static final int HOTEL = 5;             //! Building level index for a hotel (0-4 = houses)
+
+    private final Rules rules;
+    private final double[] landing;    //! Per board index: chance a roll's dice move ends here (before cards / GO_TO_JAIL)
+    private final double[] resting;    //! Per board index: chance a token sits here between rolls (jail counted separately)
+    private final double inJail;       //! Chance a roll starts in jail, i.e. pays jailFee
+    private final double[][] rentPerRoll; //! [slot][level]
+    private final int iterations;
+
+    public static LandingAnalysis Of(Rules rules) {
+        return CACHE.computeIfAbsent(rules, LandingAnalysis::new);
+    }
+
+    private LandingAnalysis(Rules rules) {
+        this.rules = rules;
+        BoardTemplate template = rules.template;
+        int size = template.getSize();
+        int doubles = rules.maxConsecutiveDoubles;
+        int jailed = size * doubles;
+        int states = jailed + 1;
+
+        //! Transitions and dice landings, one CSR row per state
+        Sparse next = new Sparse(states);
+        Sparse lands = new Sparse(states);
+        double[] row = new double[states];
+        double[] landRow = new double[size];
+
+        for (int state = 0; state < states; state++) {
+            int position = state == jailed ? template.getJailIndex() : state / doubles;
+            int streak = state == jailed ? 0 : state % doubles;
+
+            for (int dice1 = 1; dice1 <= 6; dice1++) {
+                for (int dice2 = 1; dice2 <= 6; dice2++) {
+                    double p = 1.0 / 36;
+                    boolean isDoubles = dice1 == dice2;
+                    int newStreak = isDoubles ? streak + 1 : 0;
+
+                    if (isDoubles && newStreak >= doubles) {
+                        row[jailed] += p;
+                        continue;
+                    }
+
+                    int landed = (position + dice1 + dice2) % size;
+                    landRow[landed] += p;
+
+                    Rules.SpaceType type = template.getSpaceType(landed);
+                    if (type == Rules.SpaceType.GO_TO_JAIL) {
+                        row[jailed] += p;
+                    } else if (type == Rules.SpaceType.CHANCE || type == Rules.SpaceType.COMMUNITY_CHEST) {
+                        Card[] deck = type == Rules.SpaceType.CHANCE ? Card.CHANCE_DECK : Card.COMMUNITY_CHEST_DECK;
+                        for (Card card : deck) {
+                            double q = p / deck.length;
+                            if (card.effect == Card.Effect.GO_TO_JAIL) {
+                                row[jailed] += q;
+                            } else if (card.effect == Card.Effect.ADVANCE_TO_GO) {
+                                row[rules.goIndex * doubles + newStreak] += q;
+                            } else {
+                                row[landed * doubles + newStreak] += q;
+                            }
+                        }
+                    } else {
+                        row[landed * doubles + newStreak] += p;
+                    }
+                }
+            }
+
+            next.addRow(row);
+            lands.addRow(landRow);
+        }
+
+        //! Power iteration, starting on GO: pi <- pi * P
+        double[] pi = new double[states];
+        double[] scratch = new double[states];
+        pi[rules.goIndex * doubles] = 1;
+
+        int iteration = 0;
+        double change = Double.MAX_VALUE;
+        while (change > TOLERANCE && iteration < MAX_ITERATIONS) {
+            Arrays.fill(scratch, 0);
+            next.multiply(pi, scratch);
+
+            change = 0;
+            for (int i = 0; i < states; i++) {
+                change += Math.abs(scratch[i] - pi[i]);
+            }
+
+            double[] swap = pi;
+            pi = scratch;
+            scratch = swap;
+            iteration++;
+        }
+        this.iterations = iteration;
+
+        this.landing = new double[size];
+        lands.multiply(pi, landing);
+
+        this.resting = new double[size];
+        for (int state = 0; state < jailed; state++) {
+            resting[state / doubles] += pi[state];
+        }
+        this.inJail = pi[jailed];
+
+        this.rentPerRoll = new double[template.getPropertyCount()][HOTEL + 1];
+        for (int slot = 0; slot < rentPerRoll.length; slot++) {
+            PropertyTemplate property = template.getProperty(slot);
+            for (int level = 0; level <= HOTEL; level++) {
+                int rent = level == HOTEL ? property.baseRent * 6 : property.baseRent * (1 + level);
+                rentPerRoll[slot][level] = landing[property.index] * rent;
+            }
+        }
+    }
+
+    //? Compressed sparse rows: row i holds the probabilities of moving from state i to each column.
+    private static final class Sparse {
+        private final int[] rowStart;
+        private int[] columns = new int[64];
+        private double[] values = new double[64];
+        private int rows = 0;
+        private int count = 0;
+
+        Sparse(int rowCount) {
+            rowStart = new int[rowCount + 1];
+        }
+
+        //! Takes the non-zeros of `dense` and clears it for the next row
+        void addRow(double[] dense) {
+            for (int column = 0; column < dense.length; column++) {
+                if (dense[column] == 0) continue;
+                if (count == columns.length) {
+                    columns = Arrays.copyOf(columns, count * 2);
+                    values = Arrays.copyOf(values, count * 2);
+                }
+                columns[count] = column;
+                values[count] = dense[column];
+                count++;
+                dense[column] = 0;
+            }
+            rowStart[++rows] = count;
+        }
+
+        //! out[column] += sum over rows of vector[row] * M[row][column]
+        void multiply(double[] vector, double[] out) {
+            for (int row = 0; row < rows; row++) {
+                double weight = vector[row];
+                if (weight == 0) continue;
+                for (int k = rowStart[row]; k < rowStart[row + 1]; k++) {
+                    out[columns[k]] += weight * values[k];
+                }
+            }
+        }
+    }
+
+    public Rules getRules() {
+        return rules;
+    }
+
+    //? Chance that one roll's dice move ends on this space (every landing rent can be charged on).
+    public double getLandingProbability(int index) {
+        return landing[index];
+    }
+
+    //? Chance a token is on this space between rolls, after cards and GO_TO_JAIL. Excludes players in jail.
+    public double getRestingProbability(int index) {
+        return resting[index];
+    }
+
+    public double getJailProbability() {
+        return inJail;
+    }
+
+    public double getExpectedJailFeePerRoll() {
+        return inJail * rules.jailFee;
+    }
+
+    //? Expected rent one opponent roll pays on this property slot, at `level` houses (HOTEL for a hotel).
+    public double getExpectedRent(int slot, int level) {
+        return rentPerRoll[slot][level];
+    }
+
+    //? Rolls of opponent rent needed to earn back what was paid for the property and its buildings.
+    public double getPaybackRolls(int slot, int level) {
+        PropertyTemplate property = rules.template.getProperty(slot);
+        int invested = property.price + property.housePrice * (level == HOTEL ? 5 : level);
+        double perRoll = rentPerRoll[slot][level];
+        return perRoll == 0 ? Double.POSITIVE_INFINITY : invested / perRoll;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public String report() {
+        StringBuilder out = new StringBuilder();
+        BoardTemplate template = rules.template;
+
+        out.append(String.format(Locale.ROOT, "Rule set %s: %d spaces, solved in %d iterations%n",
+                rules.name, template.getSize(), iterations));
+        out.append(String.format(Locale.ROOT, "In jail at start of roll: %.3f%%  (expected fee $%.2f/roll)%n",
+                inJail * 100, getExpectedJailFeePerRoll()));
+
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = 0; slot < template.getPropertyCount(); slot++) {
+            slots.add(slot);
+        }
+        slots.sort((a, b) -> Double.compare(landing[template.getProperty(b).index], landing[template.getProperty(a).index]));
+
+        out.append("Expected rent per opponent roll (land %, then $ at 0-4 houses / hotel):\n");
+        for (int slot : slots) {
+            PropertyTemplate property = template.getProperty(slot);
+            out.append(String.format(Locale.ROOT, "  %-22s %6.3f%%", property.name, landing[property.index] * 100));
+            for (int level = 0; level <= HOTEL; level++) {
+                if (level > 0 && property.housePrice == 0) {
+                    out.append("       -"); //! Can't be built on
+                } else {
+                    out.append(String.format(Locale.ROOT, " %7.2f", rentPerRoll[slot][level]));
+                }
+            }
+            out.append('\n');
+        }
+
+        return out.toString();
+    }
+}
@@ -0,0 +1,310 @@
+package monopoly;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+//? Local load test for GameServer. Each connection drives its share of the active games, every game keeping
+//? one request in flight (so a connection pipelines as many requests as it has games), plus a number of
+//? idle games that are opened and then left alone, to see what open-but-quiet sessions cost.
+//?
+//?   java monopoly.LoadGenerator [host=127.0.0.1] [port=7878] [connections=4] [games=1000] [idle=0] [seconds=10] [rules=default] [pipeline=32]
+//?   java monopoly.LoadGenerator local ...   (starts a GameServer in this JVM first)
+//?
+//? Afterwards a pipelined check sends `pipeline` requests for one game back to back, half-closes the connection
+//? and checks that every reply still arrives, in order, with the final STATE showing the last change (0 skips it).
+//? Exits with status 1 if a connection failed, a request got an error reply or the pipelined check found problems.
+//!
+//! Bots are trivial (always roll, buy half the time) since the point is server throughput, not play quality.
+//! Finished games are closed and replaced, so the active count stays constant.
+public class LoadGenerator {
+    private static final int BUCKETS = 40; //! Latency histogram, bucket b = [2^b, 2^(b+1)) microseconds
+
+    private final String host;
+    private final int port;
+    private final String rules;
+
+    private LoadGenerator(String host, int port, String rules) {
+        this.host = host;
+        this.port = port;
+        this.rules = rules;
+    }
+
+    //? One connection's games and counters. Replies are read on the connection's own thread.
+    private final class Driver implements Runnable {
+        private final int games;
+        private final int idle;
+        private final long stopAt;
+        private final long[] gameIds;
+        private final long[] sentAt;
+        private final GameRandom random = new GameRandom();
+
+        final long[] latency = new long[BUCKETS];
+        long requests = 0;
+        long errors = 0;
+        long finished = 0;
+        Exception failure;
+
+        Driver(int games, int idle, long stopAt) {
+            this.games = games;
+            this.idle = idle;
+            this.stopAt = stopAt;
+            this.gameIds = new long[games];
+            this.sentAt = new long[games];
+        }
+
+        @Override
+        public void run() {
+            try (Socket socket = new Socket(host, port);
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                 BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+                socket.setTcpNoDelay(true);
+
+                for (int i = 0; i < idle; i++) {
+                    out.write("idle NEW " + rules);
+                    out.newLine();
+                }
+                for (int game = 0; game < games; game++) {
+                    send(out, game, "NEW " + rules);
+                }
+                out.flush();
+
+                int inFlight = games;
+                int idleReplies = idle;
+                while (inFlight > 0 || idleReplies > 0) {
+                    String line = in.readLine();
+                    if (line == null) throw new IOException("Server closed the connection");
+
+                    String[] words = line.split(" ");
+                    if (words[0].equals("idle")) {
+                        idleReplies--;
+                        continue;
+                    }
+
+                    int game = Integer.parseInt(words[0]);
+                    long micros = (System.nanoTime() - sentAt[game]) / 1_000;
+                    latency[Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(Math.max(1, micros)))]++;
+                    requests++;
+
+                    String next = words[1].equals("OK") ? next(game, words) : null;
+                    if (next == null && !words[1].equals("OK")) {
+                        errors++;
+                        next = gameIds[game] == 0 ? "NEW " + rules : "STATE " + gameIds[game];
+                    }
+
+                    if (System.nanoTime() - stopAt >= 0) {
+                        inFlight--;
+                    } else {
+                        send(out, game, next);
+                    }
+                    if (!in.ready()) out.flush(); //! Batch writes while replies are still queued up
+                }
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+
+        //! Decides the game's next request from the reply to its last one
+        private String next(int game, String[] reply) {
+            if (reply.length == 3) { //! NEW -> id
+                gameIds[game] = Long.parseLong(reply[2]);
+                return "ROLL " + gameIds[game];
+            }
+
+            boolean over = false;
+            boolean pending = false;
+            for (String field : reply) {
+                if (field.equals("over=1")) over = true;
+                if (field.startsWith("pending=") && !field.equals("pending=-1")) pending = true;
+            }
+
+            if (over) {
+                finished++;
+                long closed = gameIds[game];
+                gameIds[game] = 0;
+                return "CLOSE " + closed;
+            }
+            if (gameIds[game] == 0) return "NEW " + rules;
+            if (pending) return (random.nextInt(2) == 0 ? "BUY " : "DECLINE ") + gameIds[game];
+            return "ROLL " + gameIds[game];
+        }
+
+        private void send(BufferedWriter out, int game, String request) throws IOException {
+            sentAt[game] = System.nanoTime();
+            out.write(game + " " + request);
+            out.newLine();
+        }
+    }
+
+    //? The pipelined check (see above). Returns how many things went wrong.
+    private int pipelineCheck(int depth) throws IOException {
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            out.write("new NEW " + rules);
+            out.newLine();
+            out.flush();
+            String created = in.readLine();
+            if (created == null || !created.startsWith("new OK ")) throw new IOException("NEW failed: " + created);
+            String game = created.substring("new OK ".length());
+
+            //! Roll / decline alternately; the ones that aren't legal at that moment still owe an ERR reply
+            for (int i = 0; i < depth - 1; i++) {
+                out.write(i + (i % 2 == 0 ? " ROLL " : " DECLINE ") + game);
+                out.newLine();
+            }
+            out.write((depth - 1) + " STATE " + game);
+            out.newLine();
+            out.flush();
+            socket.shutdownOutput();
+
+            int problems = 0;
+            int replies = 0;
+            String lastChange = null;
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] words = line.split(" ", 3);
+                if (Integer.parseInt(words[0]) != replies) {
+                    System.out.println("Pipelined reply out of order: " + line);
+                    problems++;
+                }
+                replies++;
+
+                String state = words.length > 2 && words[1].equals("OK") ? words[2] : null;
+                if (replies < depth) {
+                    if (state != null) lastChange = state;
+                } else if (lastChange != null && !lastChange.equals(state)) {
+                    System.out.println("Pipelined STATE is stale: " + line + ", expected " + lastChange);
+                    problems++;
+                }
+            }
+
+            if (replies != depth) problems++;
+            System.out.println(String.format(Locale.ROOT, "Pipelined: %d/%d replies before the server hung up, %d problems",
+                    replies, depth, problems));
+            return problems;
+        }
+    }
+
+    private static long percentile(long[] histogram, long total, double fraction) {
+        long target = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= target && seen > 0) return 1L << (bucket + 1);
+        }
+        return 1L << histogram.length;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String host = InetAddress.getLoopbackAddress().getHostAddress();
+        int port = GameServer.DEFAULT_PORT;
+        int connections = 4;
+        int games = 1_000;
+        int idle = 0;
+        int seconds = 10;
+        int pipeline = 32;
+        String rules = Rules.DEFAULT;
+        boolean local = false;
+
+        for (String arg : args) {
+            if (arg.equals("local")) {
+                local = true;
+                continue;
+            }
+            int split = arg.indexOf('=');
+            if (split < 0) throw new IllegalArgumentException("Expected key=value, got " + arg);
+            String value = arg.substring(split + 1);
+            switch (arg.substring(0, split)) {
+                case "host": host = value; break;
+                case "port": port = Integer.parseInt(value); break;
+                case "connections": connections = Integer.parseInt(value); break;
+                case "games": games = Integer.parseInt(value); break;
+                case "idle": idle = Integer.parseInt(value); break;
+                case "seconds": seconds = Integer.parseInt(value); break;
+                case "rules": rules = value; break;
+                case "pipeline": pipeline = Integer.parseInt(value); break;
+                default: throw new IllegalArgumentException("Unknown setting " + arg);
+            }
+        }
+
+        GameServer server = local ? new GameServer(0).start() : null;
+        if (server != null) port = server.getPort();
+
+        LoadGenerator generator = new LoadGenerator(host, port, rules);
+        long start = System.nanoTime();
+        long stopAt = start + seconds * 1_000_000_000L;
+
+        List<Driver> drivers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < connections; c++) {
+            int share = games / connections + (c < games % connections ? 1 : 0);
+            int idleShare = idle / connections + (c < idle % connections ? 1 : 0);
+            Driver driver = generator.new Driver(share, idleShare, stopAt);
+            Thread thread = new Thread(driver, "load-" + c);
+            drivers.add(driver);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long[] latency = new long[BUCKETS];
+        long requests = 0;
+        long errors = 0;
+        long finished = 0;
+        int failed = 0;
+        for (Driver driver : drivers) {
+            if (driver.failure != null) {
+                System.out.println("Connection failed: " + driver.failure);
+                failed++;
+            }
+            requests += driver.requests;
+            errors += driver.errors;
+            finished += driver.finished;
+            for (int b = 0; b < BUCKETS; b++) latency[b] += driver.latency[b];
+        }
+
+        System.out.println(String.format(Locale.ROOT, "%d connections, %d active + %d idle games, %.1f s", connections, games, idle, elapsed));
+        System.out.println(String.format(Locale.ROOT, "Requests: %d  (%.0f/sec)  errors: %d  games finished: %d",
+                requests, requests / elapsed, errors, finished));
+        if (requests > 0) System.out.println(String.format(Locale.ROOT, "Latency: p50 < %d us, p99 < %d us, p99.9 < %d us",
+                percentile(latency, requests, 0.5), percentile(latency, requests, 0.99), percentile(latency, requests, 0.999)));
+
+        int problems = 0;
+        if (pipeline > 0) {
+            try {
+                problems = generator.pipelineCheck(pipeline);
+            } catch (IOException e) {
+                System.out.println("Pipelined check failed: " + e.getMessage());
+                problems++;
+            }
+        }
+
+        if (server != null) {
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            long used = runtime.totalMemory() - runtime.freeMemory();
+            System.out.println(String.format(Locale.ROOT, "Server sessions open: %d, heap in use %.1f MB",
+                    server.getSessionCount(), used / 1e6));
+            server.close();
+        }
+
+        //! Scripted runs only look at the exit status
+        if (failed > 0 || errors > 0 || problems > 0) {
+            System.out.println(String.format(Locale.ROOT, "FAILED: %d connections failed, %d error replies, %d pipelining problems",
+                    failed, errors, problems));
+            System.exit(1);
+        }
+    }
+}
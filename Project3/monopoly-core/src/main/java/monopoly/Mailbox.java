@@ -0,0 +1,58 @@
+package monopoly;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//? Single-writer mailbox: tasks posted from any thread run one at a time, in posting order, on a shared
+//? Executor. Whatever a task touches is only ever touched by one thread at a time, with no locks, and the
+//? queue handoff gives each task a happens-before edge to the next.
+//!
+//! An idle mailbox holds no thread, only an empty queue and a flag, so thousands can sit open at once.
+//! While it has work it occupies one pool thread, for at most BATCH tasks before yielding it to other mailboxes.
+public final class Mailbox implements Executor {
+    private static final int BATCH = 64;
+
+    private final Executor pool;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public Mailbox(Executor pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queue.add(task);
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            pool.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < BATCH; i++) {
+                Runnable task = queue.poll();
+                if (task == null) break;
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.out.println("Mailbox task failed: " + e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            //! A post that lost the race with set(false) sees scheduled == true and relies on us to pick it up
+            if (!queue.isEmpty()) schedule();
+        }
+    }
+
+    public boolean isIdle() {
+        return !scheduled.get() && queue.isEmpty();
+    }
+}
@@ -0,0 +1,7 @@
+package monopoly;
+
+//? Called after an observable model object (Player, Property) changes.
+@FunctionalInterface
+public interface ModelListener<T> {
+    void changed(T source);
+}
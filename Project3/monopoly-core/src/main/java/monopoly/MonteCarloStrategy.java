@@ -0,0 +1,115 @@
+package monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+//? Decides by lookahead: forks the position, plays each fork a few rounds ahead (WhatIf's rollouts) with and
+//? without the move, and keeps whichever leaves it richer on average. Rollouts run in parallel on a
+//? ForkJoinPool until the decision's deadline, so a bigger time budget simply means more samples.
+//! Both branches of a sample share one dice stream (common random numbers), like WhatIf.evaluate.
+//! Which build to try comes from ExpectedValueStrategy; the lookahead only decides whether it beats not building.
+public class MonteCarloStrategy implements PlayerStrategy {
+    public static final String NAME = "Monte Carlo";
+    private static final int MIN_SAMPLES = 32;      //! Fewer than this and the heuristic answers instead
+    private static final long JOIN_MARGIN = 2_000_000; //! ns kept back from the deadline for joining workers
+
+    //? A move applied to one fork before its rollout.
+    private interface Move {
+        void apply(CompactEngine engine, GameState state);
+    }
+
+    private final ForkJoinPool pool;
+    private final int turns;
+    private final ExpectedValueStrategy fallback = new ExpectedValueStrategy();
+
+    public MonteCarloStrategy() {
+        this(ForkJoinPool.commonPool(), 20);
+    }
+
+    public MonteCarloStrategy(ForkJoinPool pool, int turns) {
+        this.pool = pool;
+        this.turns = turns;
+    }
+
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    //? Same strategy, rollouts on `other` (Tournament moves them off the pool that plays its games).
+    MonteCarloStrategy withPool(ForkJoinPool other) {
+        return new MonteCarloStrategy(other, turns);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean shouldBuy(Decision decision) {
+        double gain = compare(decision, CompactEngine::buyProperty, CompactEngine::declineProperty);
+        return Double.isNaN(gain) ? fallback.shouldBuy(decision) : gain > 0;
+    }
+
+    @Override
+    public int chooseBuild(Decision decision) {
+        int slot = fallback.chooseBuild(decision);
+        if (slot < 0) return -1;
+
+        double gain = compare(decision, (engine, state) -> PlayerStrategy.build(engine, state, slot), (engine, state) -> { });
+        if (Double.isNaN(gain)) return slot;
+        return gain > 0 ? slot : -1;
+    }
+
+    //? Average net worth gain of `a` over `b` for the deciding seat, or NaN if the budget ran out first.
+    private double compare(Decision decision, Move a, Move b) {
+        long stopAt = decision.getDeadline() - JOIN_MARGIN;
+        if (stopAt - System.nanoTime() <= 0) return Double.NaN;
+
+        GameState root = decision.state.fork(); //! Workers only fork it, so the shared arrays are never written
+        GameRandom streams = new GameRandom();   //! Fresh dice: the root's own seed is the real game's future
+        int workers = Math.max(1, pool.getParallelism());
+
+        List<ForkJoinTask<long[]>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            int first = w;
+            tasks.add(pool.submit(() -> rollouts(decision, root, streams, first, workers, stopAt, a, b)));
+        }
+
+        long samples = 0;
+        long total = 0;
+        for (ForkJoinTask<long[]> task : tasks) {
+            long[] result = task.join();
+            samples += result[0];
+            total += result[1];
+        }
+
+        return samples < MIN_SAMPLES ? Double.NaN : (double) total / samples;
+    }
+
+    //! Returns {samples, sum of (a - b)}. Worker w takes streams w, w + workers, ... so none are shared.
+    private long[] rollouts(Decision decision, GameState root, GameRandom streams, int first, int step, long stopAt, Move a, Move b) {
+        WhatIf lookahead = new WhatIf(decision.rules).setTurns(turns);
+        CompactEngine engine = new CompactEngine(decision.rules);
+        long samples = 0;
+        long total = 0;
+
+        for (int i = first; System.nanoTime() - stopAt < 0; i += step) {
+            GameRandom dice = streams.stream(i);
+
+            GameState left = root.fork();
+            left.reseed(dice);
+            a.apply(engine, left);
+
+            GameState right = root.fork();
+            right.reseed(dice);
+            b.apply(engine, right);
+
+            total += lookahead.playOut(left, decision.seat) - lookahead.playOut(right, decision.seat);
+            samples++;
+        }
+        return new long[] {samples, total};
+    }
+}
@@ -0,0 +1,33 @@
+package monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//? Minimal listener support for the model classes. With no listeners attached (simulation, bots, replay)
+//? a change costs one null check, so batch runs pay nothing for it.
+public abstract class ObservableModel<T> {
+    private List<ModelListener<? super T>> listeners = null;
+
+    public void addListener(ModelListener<? super T> listener) {
+        if (listeners == null) listeners = new ArrayList<>(2);
+        listeners.add(listener);
+    }
+
+    public void removeListener(ModelListener<? super T> listener) {
+        if (listeners == null) return;
+        listeners.remove(listener);
+        if (listeners.isEmpty()) listeners = null;
+    }
+
+    public void clearListeners() {
+        listeners = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void fireChanged() {
+        if (listeners == null) return;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).changed((T) this);
+        }
+    }
+}
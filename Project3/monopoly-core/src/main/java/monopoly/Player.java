@@ -1,6 +1,7 @@
 package monopoly;
 
-public class Player {
+//! Fields stay public for reading; change them through the methods so listeners hear about it.
+public class Player extends ObservableModel<Player> {
     public String name;
     public int cash;
     public int position;
@@ -21,19 +22,37 @@ public class Player {
 
     public void addCash(int amount) {
         this.cash += amount;
+        fireChanged();
     }
 
     public boolean payCash(int amount) {
         if (this.cash >= amount) {
             this.cash -= amount;
+            fireChanged();
             return true;
         }
 
         return false;
     }
 
+    public void setCash(int cash) {
+        this.cash = cash;
+        fireChanged();
+    }
+
     public void setPosition(int index) {
         this.position = index;
+        fireChanged();
+    }
+
+    public void setInJail(boolean inJail) {
+        this.inJail = inJail;
+        fireChanged();
+    }
+
+    public void setBankrupt(boolean isBankrupt) {
+        this.isBankrupt = isBankrupt;
+        fireChanged();
     }
 
     public void resetDoubles() {
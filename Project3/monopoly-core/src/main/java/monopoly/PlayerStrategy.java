@@ -0,0 +1,38 @@
+package monopoly;
+
+//? Plays a seat instead of a human: decides buy/decline and what to build before rolling.
+//? Called off the FX thread with a Decision (a private fork of the game), and should answer before
+//? decision.getDeadline(). StrategyRunner takes care of threading for the UI.
+public interface PlayerStrategy {
+    String getName();
+
+    boolean shouldBuy(Decision decision);
+
+    //? Slot to build on next (a hotel if one is allowed there, otherwise a house), or -1 to stop building
+    //? this turn. Asked again after each build, with the build already applied to decision.state.
+    int chooseBuild(Decision decision);
+
+    //! Names offered in the UI and accepted by byName, simplest first
+    String[] BUILT_IN = {GreedyStrategy.NAME, ExpectedValueStrategy.NAME, MonteCarloStrategy.NAME};
+
+    //? A built-in bot by name, or null (e.g. "Human").
+    static PlayerStrategy byName(String name) {
+        if (GreedyStrategy.NAME.equals(name)) return new GreedyStrategy(100);
+        if (ExpectedValueStrategy.NAME.equals(name)) return new ExpectedValueStrategy();
+        if (MonteCarloStrategy.NAME.equals(name)) return new MonteCarloStrategy();
+        return null;
+    }
+
+    //? Applies a chooseBuild answer to a state: a hotel where allowed, otherwise a house. False if neither is legal.
+    static boolean build(CompactEngine engine, GameState state, int slot) {
+        if (engine.canBuildHotel(state, slot)) {
+            engine.buildHotel(state, slot);
+            return true;
+        }
+        if (engine.canBuildHouse(state, slot)) {
+            engine.buildHouse(state, slot);
+            return true;
+        }
+        return false;
+    }
+}
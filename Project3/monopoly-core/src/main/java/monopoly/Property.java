@@ -0,0 +1,109 @@
+package monopoly;
+
+//? One game's view of a property: the shared, immutable PropertyTemplate plus this game's owner and buildings.
+//! Fields stay public for reading; change them through the methods so listeners (and Board's ownership index) keep up.
+public class Property extends ObservableModel<Property> {
+    public final PropertyTemplate template;
+    
+    public Player owner;
+    public int houses;
+    public boolean hasHotel;
+
+    final Board board; //! So ownership changes keep the board's indexes current
+
+    Property(PropertyTemplate template, Board board) {
+        this.template = template;
+        this.board = board;
+        this.owner = null;
+        this.houses = 0;
+        this.hasHotel = false;
+    }
+
+    public boolean isOwned() {
+        return owner != null;
+    }
+
+    public void setOwner(Player newOwner) {
+        Player oldOwner = this.owner;
+        this.owner = newOwner;
+        board.ownerChanged(this, oldOwner, newOwner);
+        fireChanged();
+    }
+
+    public void releaseOwnership() {
+        this.houses = 0;
+        this.hasHotel = false;
+        setOwner(null);
+    }
+
+    public void setBuildings(int houses, boolean hasHotel) {
+        this.houses = houses;
+        this.hasHotel = hasHotel;
+        board.buildingsChanged();
+        fireChanged();
+    }
+
+    public int getRent() {
+        if (hasHotel) {
+            return template.baseRent * 6;
+        }
+        return template.baseRent * (1 + houses);
+    }
+
+    //! A house price of 0 (railroads, utilities) means nothing can be built
+    public boolean canBuildHouse() {
+        return owner != null && template.housePrice > 0 && houses < 4 && !hasHotel;
+    }
+
+    public boolean canBuildHotel() {
+        return owner != null && template.housePrice > 0 && houses == 4 && !hasHotel;
+    }
+
+    public void buildHouse() {
+        if (canBuildHouse()) {
+            houses++;
+            board.buildingsChanged();
+            fireChanged();
+        }
+    }
+
+    public void buildHotel() {
+        if (canBuildHotel()) {
+            hasHotel = true;
+            board.buildingsChanged();
+            fireChanged();
+        }
+    }
+
+    public String getName() {
+        return template.name;
+    }
+
+    public int getPrice() {
+        return template.price;
+    }
+
+    public int getBaseRent() {
+        return template.baseRent;
+    }
+
+    public String getColorSet() {
+        return template.colorSet;
+    }
+
+    public int getHousePrice() {
+        return template.housePrice;
+    }
+
+    public Player getOwner() {
+        return owner;
+    }
+
+    public int getIndex() {
+        return template.index;
+    }
+
+    public int getSlot() {
+        return template.slot;
+    }
+}
@@ -0,0 +1,25 @@
+package monopoly;
+
+//? The fixed half of a property: what it is and where it sits. Built once per rule set (see BoardTemplate)
+//? and shared by every game on that board; the per-game half (owner, buildings) is Property.
+public final class PropertyTemplate {
+    public final String name;
+    public final int price;
+    public final int baseRent;
+    public final String colorSet;
+    public final int housePrice;  //! 0 = nothing can be built
+    public final int index;       //! Board index
+    public final int slot;        //! Position among the board's properties
+    public final int colorSetId;
+
+    PropertyTemplate(String name, int price, int baseRent, String colorSet, int housePrice, int index, int slot, int colorSetId) {
+        this.name = name;
+        this.price = price;
+        this.baseRent = baseRent;
+        this.colorSet = colorSet;
+        this.housePrice = housePrice;
+        this.index = index;
+        this.slot = slot;
+        this.colorSetId = colorSetId;
+    }
+}
@@ -0,0 +1,283 @@
+package monopoly;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+//? A rule set: board layout plus the game constants. Loaded from a .rules definition file, validated once,
+//? then cached and shared (read-only) by every game that uses it.
+//?
+//? Definition format, one entry per line ('#' starts a comment):
+//?   startCash = 1500                      (also goReward, jailFee, maxConsecutiveDoubles; defaults below)
+//?   GO | GO                               (spaces, in board order)
+//?   PROP | Oak Street | 60 | 20 | Brown | 50   (price | rent | color set | house price, 0 = can't build)
+//?   TAX | Income Tax | 200                (amount due)
+//?   JAIL | Jail, FREE | ..., CHANCE | ..., COMMUNITY_CHEST | ..., GO_TO_JAIL | ...
+//!
+//! Lookup order for a name: rules/<name>.rules on disk, then the built-in resource monopoly/rules/<name>.rules.
+public class Rules {
+    public static final String DEFAULT = "default";
+    public static final String EXTENSION = ".rules";
+    private static final String[] BUILT_IN = {DEFAULT, "classic"};
+    private static final Map<String, Rules> CACHE = new ConcurrentHashMap<>();
+
+    public enum SpaceType {
+        GO,
+        PROP,
+        JAIL,
+        FREE,
+        CHANCE,
+        COMMUNITY_CHEST,
+        GO_TO_JAIL,
+        TAX
+    }
+
+    public static class BoardSpace {
+        public final SpaceType type;
+        public final String name;
+        public final int index;
+        public final Integer price; //! PROP: purchase price, TAX: amount due
+        public final Integer rent;
+        public final String colorSet;
+        public final Integer housePrice;
+
+        private BoardSpace(int index, SpaceType type, String name, Integer price, Integer rent, String colorSet, Integer housePrice) {
+            this.type = type;
+            this.name = name;
+            this.index = index;
+            this.price = price;
+            this.rent = rent;
+            this.colorSet = colorSet;
+            this.housePrice = housePrice;
+        }
+    }
+
+    public final String name;
+    public final int startCash;
+    public final int goReward;
+    public final int jailFee;
+    public final int maxConsecutiveDoubles;
+
+    public final List<BoardSpace> spaces; //! Unmodifiable
+    public final int goIndex;
+    public final int jailIndex;
+    public final BoardTemplate template;  //! The spaces compiled once; every Board on this rule set shares it
+
+    private Rules(String name, int startCash, int goReward, int jailFee, int maxConsecutiveDoubles, List<BoardSpace> spaces, int goIndex, int jailIndex, BoardTemplate template) {
+        this.name = name;
+        this.startCash = startCash;
+        this.goReward = goReward;
+        this.jailFee = jailFee;
+        this.maxConsecutiveDoubles = maxConsecutiveDoubles;
+        this.spaces = spaces;
+        this.goIndex = goIndex;
+        this.jailIndex = jailIndex;
+        this.template = template;
+    }
+
+    //? The built-in 16-space board every game used before rule sets existed.
+    public static Rules Default() {
+        try {
+            return Get(DEFAULT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); //! Ships inside the jar, only a broken build gets here
+        }
+    }
+
+    //? Loads, validates and caches a rule set on first use; later calls (from any thread) share the same instance.
+    public static Rules Get(String name) throws IOException {
+        Rules rules = CACHE.get(name);
+        if (rules != null) return rules;
+
+        rules = Read(name);
+        Rules raced = CACHE.putIfAbsent(name, rules);
+        return raced != null ? raced : rules;
+    }
+
+    //? Built-in rule sets plus any rules/*.rules files in the working directory, sorted by name.
+    public static List<String> Available() {
+        TreeSet<String> names = new TreeSet<>();
+        Collections.addAll(names, BUILT_IN);
+
+        Path dir = Paths.get("rules");
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + EXTENSION)) {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+                    names.add(fileName.substring(0, fileName.length() - EXTENSION.length()));
+                }
+            } catch (IOException e) {
+                System.out.println("Can't list rule sets: " + e.getMessage());
+            }
+        }
+
+        return new ArrayList<>(names);
+    }
+
+    private static Rules Read(String name) throws IOException {
+        if (!IsValidName(name)) throw new IOException("Bad rule set name: " + name);
+
+        Path file = Paths.get("rules", name + EXTENSION);
+        if (Files.isRegularFile(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                return Parse(name, reader);
+            }
+        }
+
+        InputStream resource = Rules.class.getResourceAsStream("rules/" + name + EXTENSION);
+        if (resource == null) throw new IOException("Unknown rule set: " + name);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+            return Parse(name, reader);
+        }
+    }
+
+    //? Parses and validates a definition (see the format above). Not cached; use Get for that.
+    //? Throws IOException naming the offending line on any problem.
+    public static Rules Parse(String name, BufferedReader reader) throws IOException {
+        int startCash = 1_500;
+        int goReward = 200;
+        int jailFee = 50;
+        int maxConsecutiveDoubles = 3;
+        List<BoardSpace> spaces = new ArrayList<>();
+        int goIndex = -1;
+        int jailIndex = -1;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+
+            String where = name + EXTENSION + ":" + lineNumber + ": ";
+
+            if (line.indexOf('|') < 0 && line.indexOf('=') > 0) {
+                String key = line.substring(0, line.indexOf('=')).trim();
+                int value = ParseInt(line.substring(line.indexOf('=') + 1), where);
+                switch (key) {
+                    case "startCash": startCash = value; break;
+                    case "goReward": goReward = value; break;
+                    case "jailFee": jailFee = value; break;
+                    case "maxConsecutiveDoubles": maxConsecutiveDoubles = value; break;
+                    default: throw new IOException(where + "unknown setting '" + key + "'");
+                }
+                continue;
+            }
+
+            String[] parts = line.split("\\|");
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = parts[i].trim();
+            }
+
+            SpaceType type;
+            try {
+                type = SpaceType.valueOf(parts[0]);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(where + "unknown space type '" + parts[0] + "'");
+            }
+            if (parts.length < 2 || parts[1].isEmpty()) throw new IOException(where + "space needs a name");
+
+            int index = spaces.size();
+            switch (type) {
+                case PROP: {
+                    if (parts.length < 5 || parts.length > 6) throw new IOException(where + "PROP needs name | price | rent | color set [| house price]");
+                    int price = ParseInt(parts[2], where);
+                    int rent = ParseInt(parts[3], where);
+                    int housePrice = parts.length == 6 ? ParseInt(parts[5], where) : 0;
+                    if (price <= 0 || rent < 0 || housePrice < 0) throw new IOException(where + "price must be positive, rent and house price not negative");
+                    if (parts[4].isEmpty()) throw new IOException(where + "PROP needs a color set");
+                    spaces.add(new BoardSpace(index, type, parts[1], price, rent, parts[4], housePrice));
+                    break;
+                }
+                case TAX: {
+                    if (parts.length != 3) throw new IOException(where + "TAX needs name | amount");
+                    int amount = ParseInt(parts[2], where);
+                    if (amount < 0) throw new IOException(where + "tax can't be negative");
+                    spaces.add(new BoardSpace(index, type, parts[1], amount, null, null, null));
+                    break;
+                }
+                default: {
+                    if (parts.length != 2) throw new IOException(where + type + " takes only a name");
+                    if (type == SpaceType.GO) {
+                        if (goIndex >= 0) throw new IOException(where + "second GO space");
+                        goIndex = index;
+                    } else if (type == SpaceType.JAIL) {
+                        if (jailIndex >= 0) throw new IOException(where + "second JAIL space");
+                        jailIndex = index;
+                    }
+                    spaces.add(new BoardSpace(index, type, parts[1], null, null, null, null));
+                    break;
+                }
+            }
+        }
+
+        String where = name + EXTENSION + ": ";
+        if (spaces.size() < 2) throw new IOException(where + "board needs at least 2 spaces");
+        if (goIndex < 0) throw new IOException(where + "board has no GO space");
+        if (jailIndex < 0) throw new IOException(where + "board has no JAIL space");
+        if (startCash < 0 || goReward < 0 || jailFee < 0) throw new IOException(where + "money settings can't be negative");
+        if (maxConsecutiveDoubles < 1) throw new IOException(where + "maxConsecutiveDoubles must be at least 1");
+
+        //! Save files and the turn journal store property slots in 16 bits
+        int properties = 0;
+        for (BoardSpace space : spaces) {
+            if (space.type == SpaceType.PROP) properties++;
+        }
+        if (properties > 0xFFFF) throw new IOException(where + "too many properties");
+
+        spaces = Collections.unmodifiableList(spaces);
+        return new Rules(name, startCash, goReward, jailFee, maxConsecutiveDoubles, spaces, goIndex, jailIndex, new BoardTemplate(spaces, goIndex, jailIndex));
+    }
+
+    //! [A-Za-z0-9_-]+, checked by hand so the first load doesn't pull in java.util.regex
+    private static boolean IsValidName(String name) {
+        if (name.isEmpty()) return false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean ok = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+            if (!ok) return false;
+        }
+        return true;
+    }
+
+    private static int ParseInt(String text, String where) throws IOException {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IOException(where + "'" + text.trim() + "' is not a number");
+        }
+    }
+
+    //? Same board, different constants (e.g. a save made with tweaked settings). Returns this if nothing differs.
+    public Rules withSettings(int startCash, int goReward, int jailFee, int maxConsecutiveDoubles) {
+        if (startCash == this.startCash && goReward == this.goReward && jailFee == this.jailFee
+                && maxConsecutiveDoubles == this.maxConsecutiveDoubles) {
+            return this;
+        }
+        return new Rules(name, startCash, goReward, jailFee, maxConsecutiveDoubles, spaces, goIndex, jailIndex, template);
+    }
+
+    //! I know there are unused, but good to have them?
+    public int getBoardSize() {
+        return this.spaces.size();
+    }
+
+    public BoardSpace getBoardSpace(int index) {
+        return this.spaces.get(index);
+    }
+}
@@ -0,0 +1,501 @@
+package monopoly;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32C;
+
+public class SaveLoad {
+    //? Binary snapshot format (.sav), little header + body + CRC32C trailer:
+    //?   magic "MPLY" | version u16 | flags u16
+    //?   rule set (v3+): name (u16 length + UTF-8), see Rules.Get; older saves are on the default board
+    //?   rules: startCash, goReward, jailFee, maxConsecutiveDoubles, boardSize, goIndex, jailIndex (i32 each)
+    //?   turn: currentPlayer i32, dice1 u8, dice2 u8, pendingSlot i32
+    //?   rng (v2+): GameRandom seed i64, gamma i64
+    //?   players: count i32, then per player name (u16 length + UTF-8), cash i32, position i32, doubles u8, flags u8
+    //?   properties: count i32, then per slot owner i8, houses u8, hotel u8
+    //?   crc32c of everything above (i32)
+    public static final int BINARY_MAGIC = 0x4D504C59; //! "MPLY"
+    public static final short BINARY_VERSION = 3; //! v1 had no RNG state, v2 no rule set name; both still readable
+    public static final String BINARY_EXTENSION = ".sav";
+    public static final String TEXT_EXTENSION = ".txt";
+    private static final int PLAYER_IN_JAIL = 1;
+    private static final int PLAYER_BANKRUPT = 2;
+
+    public static Path BinaryPath(String fileName) {
+        return Paths.get("savedata", fileName + BINARY_EXTENSION);
+    }
+
+    public static boolean HasBinary(String fileName) {
+        return Files.isRegularFile(BinaryPath(fileName));
+    }
+
+    //? Everything a save needs, copied out of the engine. Cheap to take on the FX thread; encoding and disk I/O
+    //? can then happen elsewhere while the game keeps going.
+    public static final class Snapshot {
+        final String ruleSet;
+        final int startCash;
+        final int goReward;
+        final int jailFee;
+        final int maxConsecutiveDoubles;
+        final int boardSize;
+        final int goIndex;
+        final int jailIndex;
+        final String[] names;
+        final GameState state;
+
+        private Snapshot(Rules rules, String[] names, GameState state) {
+            this.ruleSet = rules.name;
+            this.startCash = rules.startCash;
+            this.goReward = rules.goReward;
+            this.jailFee = rules.jailFee;
+            this.maxConsecutiveDoubles = rules.maxConsecutiveDoubles;
+            this.boardSize = rules.getBoardSize();
+            this.goIndex = rules.goIndex;
+            this.jailIndex = rules.jailIndex;
+            this.names = names;
+            this.state = state;
+        }
+    }
+
+    //? Uses the engine's published GameSnapshot when it has one (nothing is copied), otherwise copies the live game.
+    //! Call on the thread that drives the engine; use Capture(GameSnapshot) from anywhere else.
+    public static Snapshot Capture(GameEngine engine) {
+        GameSnapshot published = engine.getSnapshot();
+        if (published != null) return Capture(published);
+
+        List<Player> players = engine.getPlayers();
+        String[] names = new String[players.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = players.get(i).name;
+        }
+        return new Snapshot(engine.getRules(), names, engine.toState());
+    }
+
+    //! Any thread: a GameSnapshot never changes, so the save can share its state
+    public static Snapshot Capture(GameSnapshot snapshot) {
+        return new Snapshot(snapshot.getRules(), snapshot.getPlayerNames(), snapshot.state());
+    }
+
+    //! One background thread for all saves keeps them in submission order, so an older save can never land after a newer one.
+    //! Created on the first async save (holder class), so loading or a synchronous save doesn't start it.
+    private static final class SaveThread {
+        static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "monopoly-save");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    //? Snapshot now (caller's thread), encode + fsync + rename on the save thread. Completes with false on I/O failure.
+    public static CompletableFuture<Boolean> SaveBinaryAsync(Path path, GameEngine engine) {
+        return SaveBinaryAsync(path, Capture(engine));
+    }
+
+    //? From any thread, e.g. an autosave timer reading GameEngine.getSnapshot().
+    public static CompletableFuture<Boolean> SaveBinaryAsync(Path path, GameSnapshot snapshot) {
+        return SaveBinaryAsync(path, Capture(snapshot));
+    }
+
+    private static CompletableFuture<Boolean> SaveBinaryAsync(Path path, Snapshot snapshot) {
+        return CompletableFuture.supplyAsync(() -> SaveBinary(path, snapshot), SaveThread.EXECUTOR);
+    }
+
+    //? Save full engine state in the binary format.
+    public static boolean SaveBinary(Path path, GameEngine engine) {
+        return SaveBinary(path, Capture(engine));
+    }
+
+    //? Writes to a temp file next to the target, fsyncs it, then atomically renames it over the old save.
+    //? A crash mid-write leaves the previous save untouched.
+    public static boolean SaveBinary(Path path, Snapshot snapshot) {
+        try {
+            WriteAtomic(path, Encode(snapshot));
+            return true;
+        } catch (IOException e) {
+            System.out.println("Save error: " + e.getMessage());
+            return false;
+        }
+    }
+
+    //? Writes an encoded snapshot with the temp file + fsync + rename dance.
+    static void WriteAtomic(Path path, ByteBuffer buffer) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+            }
+            throw e;
+        }
+    }
+
+    //? The CRC32C trailer of an encoded snapshot (buffer from Encode) or of a .sav file. Identifies a snapshot cheaply.
+    static int Checksum(ByteBuffer encoded) {
+        return encoded.getInt(encoded.limit() - 4);
+    }
+
+    static int Checksum(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer trailer = ByteBuffer.allocate(4);
+            channel.read(trailer, channel.size() - 4);
+            return trailer.getInt(0);
+        }
+    }
+
+    public static boolean LoadBinary(Path path, GameEngine engine) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException("Save file too large");
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) throw new EOFException("Unexpected end of save file");
+            }
+            buffer.flip();
+
+            Decode(buffer, engine);
+            return true;
+        } catch (Exception e) {
+            System.out.println("Load error: " + e.getMessage());
+            return false;
+        }
+    }
+
+    //? Serialize the engine into a fresh buffer (position 0, limit = length). No file I/O, so it can also feed checkpoints.
+    public static ByteBuffer Encode(GameEngine engine) {
+        return Encode(Capture(engine));
+    }
+
+    public static ByteBuffer Encode(Snapshot snapshot) {
+        GameState state = snapshot.state;
+
+        byte[] ruleSet = snapshot.ruleSet.getBytes(StandardCharsets.UTF_8);
+        byte[][] names = new byte[snapshot.names.length][];
+        int size = 4 + 2 + 2 + 2 + ruleSet.length + 7 * 4 + 4 + 1 + 1 + 4 + 8 + 8 + 4 + 4 + state.propertyCount * 3 + 4;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = snapshot.names[i].getBytes(StandardCharsets.UTF_8);
+            size += 2 + names[i].length + 4 + 4 + 1 + 1;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(BINARY_MAGIC);
+        buffer.putShort(BINARY_VERSION);
+        buffer.putShort((short) 0);
+
+        buffer.putShort((short) ruleSet.length);
+        buffer.put(ruleSet);
+
+        buffer.putInt(snapshot.startCash);
+        buffer.putInt(snapshot.goReward);
+        buffer.putInt(snapshot.jailFee);
+        buffer.putInt(snapshot.maxConsecutiveDoubles);
+        buffer.putInt(snapshot.boardSize);
+        buffer.putInt(snapshot.goIndex);
+        buffer.putInt(snapshot.jailIndex);
+
+        buffer.putInt(state.currentPlayer);
+        buffer.put((byte) state.lastDice1);
+        buffer.put((byte) state.lastDice2);
+        buffer.putInt(state.pendingSlot);
+
+        buffer.putLong(state.rngSeed);
+        buffer.putLong(state.rngGamma);
+
+        buffer.putInt(state.playerCount);
+        for (int i = 0; i < state.playerCount; i++) {
+            buffer.putShort((short) names[i].length);
+            buffer.put(names[i]);
+            buffer.putInt(state.cash[i]);
+            buffer.putInt(state.position[i]);
+            buffer.put(state.consecutiveDoubles[i]);
+            buffer.put((byte) ((state.inJail[i] ? PLAYER_IN_JAIL : 0) | (state.bankrupt[i] ? PLAYER_BANKRUPT : 0)));
+        }
+
+        buffer.putInt(state.propertyCount);
+        for (int slot = 0; slot < state.propertyCount; slot++) {
+            buffer.put(state.owner[slot]);
+            buffer.put(state.houses[slot]);
+            buffer.put((byte) (state.hotel[slot] ? 1 : 0));
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+
+        buffer.flip();
+        return buffer;
+    }
+
+    //? Rebuild the engine from a buffer produced by Encode(). Throws IOException on a bad magic, version or checksum.
+    public static void Decode(ByteBuffer buffer, GameEngine engine) throws IOException {
+        int start = buffer.position();
+        int end = buffer.limit();
+        if (end - start < 12) throw new EOFException("Save file too short");
+
+        CRC32C crc = new CRC32C();
+        ByteBuffer body = buffer.duplicate();
+        body.limit(end - 4);
+        crc.update(body);
+        if ((int) crc.getValue() != buffer.getInt(end - 4)) throw new IOException("Save file checksum mismatch");
+
+        if (buffer.getInt() != BINARY_MAGIC) throw new IOException("Not a binary save file");
+        short version = buffer.getShort();
+        if (version < 1 || version > BINARY_VERSION) throw new IOException("Unsupported save version " + version);
+        buffer.getShort(); //! flags, none defined yet
+
+        Rules rules = Rules.Default();
+        if (version >= 3) {
+            byte[] ruleSet = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(ruleSet);
+            rules = Rules.Get(new String(ruleSet, StandardCharsets.UTF_8));
+        }
+
+        int startCash = buffer.getInt();
+        int goReward = buffer.getInt();
+        int jailFee = buffer.getInt();
+        int maxConsecutiveDoubles = buffer.getInt();
+        int boardSize = buffer.getInt();
+        int goIndex = buffer.getInt();
+        int jailIndex = buffer.getInt();
+        if (boardSize != rules.getBoardSize() || goIndex != rules.goIndex || jailIndex != rules.jailIndex) {
+            throw new IOException("Save file is for a different board");
+        }
+        rules = rules.withSettings(startCash, goReward, jailFee, maxConsecutiveDoubles);
+
+        Board board = new Board(rules);
+
+        int currentPlayer = buffer.getInt();
+        int dice1 = buffer.get();
+        int dice2 = buffer.get();
+        int pendingSlot = buffer.getInt();
+
+        GameRandom rng = version >= 2 ? new GameRandom(buffer.getLong(), buffer.getLong()) : new GameRandom();
+
+        int playerCount = buffer.getInt();
+        if (playerCount < 0 || playerCount > Byte.MAX_VALUE) throw new IOException("Bad player count " + playerCount);
+
+        List<Player> players = new ArrayList<>();
+        GameState state = new GameState(playerCount, board.getPropertyCount());
+        for (int i = 0; i < playerCount; i++) {
+            byte[] name = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(name);
+            players.add(new Player(new String(name, StandardCharsets.UTF_8), 0, 0));
+
+            state.cash[i] = buffer.getInt();
+            state.position[i] = buffer.getInt();
+            if (state.position[i] < 0 || state.position[i] >= boardSize) {
+                throw new IOException("Bad position " + state.position[i] + " for player " + i);
+            }
+            state.consecutiveDoubles[i] = buffer.get();
+            int flags = buffer.get();
+            state.inJail[i] = (flags & PLAYER_IN_JAIL) != 0;
+            state.bankrupt[i] = (flags & PLAYER_BANKRUPT) != 0;
+        }
+
+        int propertyCount = buffer.getInt();
+        if (propertyCount != board.getPropertyCount()) throw new IOException("Save file is for a different board");
+        for (int slot = 0; slot < propertyCount; slot++) {
+            state.owner[slot] = buffer.get();
+            state.houses[slot] = buffer.get();
+            state.hotel[slot] = buffer.get() != 0;
+            if (state.owner[slot] < -1 || state.owner[slot] >= playerCount) {
+                throw new IOException("Bad owner " + state.owner[slot] + " for property " + slot);
+            }
+            if (state.houses[slot] < 0 || state.houses[slot] > 4) {
+                throw new IOException("Bad house count " + state.houses[slot] + " for property " + slot);
+            }
+        }
+        if (pendingSlot < -1 || pendingSlot >= propertyCount) throw new IOException("Bad pending property " + pendingSlot);
+        //! Everything restore() indexes by is checked above, so a corrupt file can't leave the engine half-built
+
+        state.currentPlayer = (currentPlayer < 0 || currentPlayer >= playerCount) ? 0 : currentPlayer;
+        state.lastDice1 = dice1;
+        state.lastDice2 = dice2;
+        state.pendingSlot = pendingSlot;
+        state.rngSeed = rng.getSeed();
+        state.rngGamma = rng.getGamma();
+
+        engine.restore(rules, board, players, state);
+    }
+
+
+    //? Save Data
+    public static boolean Save(
+            String fileName,
+            Board board,
+            List<Player> players,
+            int currentPlayerIndex
+    ) {
+        String path;
+
+        try {
+            path = "savedata/"+fileName+".txt";
+        } catch (Exception e) {
+            System.out.println("File name must contain valid characters!");
+            return false;
+        }
+
+        try (PrintWriter Output = new PrintWriter(new FileWriter(path))) {
+            //! Save last known "current" turn (Line 1)
+            Output.println(currentPlayerIndex);
+
+            //! Save # of players/size (Line 2)
+            Output.println(players.size());
+
+            //! Each line saved is player's data, formatted: name|cash|position|inJail|doubles|isBankrupt (Line 3)
+            for (Player p : players) {
+                Output.println(p.name + "|" + p.cash + "|" + p.position + "|" + p.inJail + "|" + p.consecutiveDoubles + "|" + p.isBankrupt);
+            }
+
+            //! Save Property data of ALL properties, including who knows it. If unowned, use -1. (Last Line)
+            List<String> pairs = new ArrayList<>();
+
+            for (int i = 0; i < board.getSize(); i++) {
+                if (board.isProperty(i)) {
+                    Property property = board.getProperty(i);
+                    int playerIndex = -1;
+
+                    if (property.owner != null) { //? Does property have an owner (player) attached to it? If not, mark as -1 (unowned)
+                        playerIndex = players.indexOf(property.owner);
+                    }
+
+                    pairs.add(i + ":" + playerIndex);
+                }
+            }
+
+            Output.println(String.join(",", pairs));
+            return true; //! Save success! :)
+        } catch (IOException e) {
+            return false; //! Save failed! :(
+        }
+    }
+
+    //? Same text format as Save above, written from a published GameSnapshot, so any thread can call it.
+    public static boolean Save(String fileName, GameSnapshot snapshot) {
+        BoardTemplate template = snapshot.getRules().template;
+
+        try (PrintWriter Output = new PrintWriter(new FileWriter("savedata/" + fileName + ".txt"))) {
+            Output.println(snapshot.getCurrentPlayer());
+            Output.println(snapshot.getPlayerCount());
+
+            for (int seat = 0; seat < snapshot.getPlayerCount(); seat++) {
+                Output.println(snapshot.getPlayerName(seat) + "|" + snapshot.getCash(seat) + "|" + snapshot.getPosition(seat) + "|"
+                        + snapshot.isInJail(seat) + "|" + snapshot.getConsecutiveDoubles(seat) + "|" + snapshot.isBankrupt(seat));
+            }
+
+            List<String> pairs = new ArrayList<>();
+            for (int slot = 0; slot < snapshot.getPropertyCount(); slot++) {
+                pairs.add(template.getProperty(slot).index + ":" + snapshot.getOwner(slot));
+            }
+
+            Output.println(String.join(",", pairs));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    //? Load Data
+    public static boolean Load(
+            String fileName,
+            Rules[] rulesOut,
+            Board[] boardOut,
+            List<Player> playersOut,
+            int[] currentIndexOut
+    ) {
+        String path;
+
+        try {
+            path = "savedata/"+fileName+".txt";
+        } catch (Exception e) {
+            System.out.println("File name must contain valid characters!");
+            return false;
+        }
+
+        try (BufferedReader br = new BufferedReader(new FileReader(path))) {
+            Rules rules = Rules.Default();
+            Board board = new Board(rules);
+
+            int currentIndex = Integer.parseInt(nonNull(br)); //! Last "Current" Turn (Line 1)
+            int players = Integer.parseInt(nonNull(br)); //! Number of players playing (Line 2)
+
+            playersOut.clear();
+            for (int i = 0; i < players; i++) {
+                String[] parts = nonNull(br).split("\\|"); //! Break up the pieces of data from the line (Line X)
+
+                Player player = new Player(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2])); //! Create player object with cash and position
+                player.inJail = Boolean.parseBoolean(parts[3]);
+                player.consecutiveDoubles = Integer.parseInt(parts[4]);
+                player.isBankrupt = Boolean.parseBoolean(parts[5]);
+
+                playersOut.add(player); //! Once created, load the player up in the list
+            }
+
+            //! Set up the properties! (Last Line)
+            String propLine = nonNull(br).trim();
+            if (!propLine.isEmpty()) { //? Safe check.
+                String[] entries = propLine.split(",");
+
+                for (String entry : entries) {
+                    String[] kv = entry.split(":");
+
+                    int indexPosition = Integer.parseInt(kv[0]);
+                    int playerIndex = Integer.parseInt(kv[1]);
+
+                    if (board.isProperty(indexPosition)) {
+                        Property property = board.getProperty(indexPosition);
+                        property.setOwner((playerIndex >= 0 && playerIndex < playersOut.size()) ? playersOut.get(playerIndex) : null);
+                        //! ^ If owned, load the owner's id/index to it. If unowned, leave alone!
+                    }
+                }
+            }
+
+            if (currentIndex < 0 || currentIndex >= playersOut.size()) {
+                currentIndex = 0;
+            }
+
+            rulesOut[0] = rules;
+            boardOut[0] = board;
+            currentIndexOut[0] = currentIndex;
+
+            return true;
+        } catch (Exception e) {
+            System.out.println("Load error: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static String nonNull(BufferedReader br) throws IOException {
+        String s = br.readLine();
+        if (s == null) throw new EOFException("Unexpected end of save file");
+        return s;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package monopoly;
+
+import java.util.Locale;
+
+//? Aggregated statistics for a batch of simulated games. Each worker fills its own copy and they get merged at the end.
+public class SimulationResult {
+    public final int seats;
+    public final int boardSize;
+    public final int maxTurns;
+    public final int bucketSize;
+
+    public long games;
+    public long draws;
+    public long totalTurns;
+    public long elapsedNanos;
+
+    public final long[] wins;
+    public final long[] lengthHistogram;
+    public final long[] rentCollected; //! Indexed by board index
+    public final long[] invested;      //! Purchase price + houses/hotels, indexed by board index
+    public final long[] timesBought;
+
+    public SimulationResult(int seats, int boardSize, int maxTurns, int bucketSize) {
+        this.seats = seats;
+        this.boardSize = boardSize;
+        this.maxTurns = maxTurns;
+        this.bucketSize = bucketSize;
+
+        this.wins = new long[seats];
+        this.lengthHistogram = new long[maxTurns / bucketSize + 1];
+        this.rentCollected = new long[boardSize];
+        this.invested = new long[boardSize];
+        this.timesBought = new long[boardSize];
+    }
+
+    public void recordGame(int winnerSeat, int turns) {
+        games++;
+        totalTurns += turns;
+
+        if (winnerSeat >= 0) {
+            wins[winnerSeat]++;
+        } else {
+            draws++;
+        }
+
+        lengthHistogram[Math.min(turns / bucketSize, lengthHistogram.length - 1)]++;
+    }
+
+    public SimulationResult merge(SimulationResult other) {
+        games += other.games;
+        draws += other.draws;
+        totalTurns += other.totalTurns;
+
+        for (int i = 0; i < seats; i++) wins[i] += other.wins[i];
+        for (int i = 0; i < lengthHistogram.length; i++) lengthHistogram[i] += other.lengthHistogram[i];
+        for (int i = 0; i < boardSize; i++) {
+            rentCollected[i] += other.rentCollected[i];
+            invested[i] += other.invested[i];
+            timesBought[i] += other.timesBought[i];
+        }
+
+        return this;
+    }
+
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) wins[seat] / games;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    //? Upper bound of the histogram bucket that holds the given fraction of games (e.g. 0.5 = median).
+    public int getTurnsPercentile(double fraction) {
+        long target = (long) Math.ceil(games * fraction);
+        long seen = 0;
+
+        for (int i = 0; i < lengthHistogram.length; i++) {
+            seen += lengthHistogram[i];
+            if (seen >= target && seen > 0) {
+                return Math.min((i + 1) * bucketSize, maxTurns);
+            }
+        }
+
+        return maxTurns;
+    }
+
+    //? Rent earned per dollar invested. -1 when nobody ever bought the space.
+    public double getReturnOnInvestment(int index) {
+        return invested[index] == 0 ? -1 : (double) rentCollected[index] / invested[index];
+    }
+
+    public double getTurnsPerSecond() {
+        return elapsedNanos == 0 ? 0 : totalTurns * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public String report(Rules rules) {
+        StringBuilder out = new StringBuilder();
+
+        out.append(String.format(Locale.ROOT, "Games: %d  Turns: %d  (%.0f turns/sec)%n", games, totalTurns, getTurnsPerSecond()));
+
+        for (int i = 0; i < seats; i++) {
+            out.append(String.format(Locale.ROOT, "Seat %d win rate: %.2f%%%n", i + 1, getWinRate(i) * 100));
+        }
+        out.append(String.format(Locale.ROOT, "Draws (turn cap reached): %.2f%%%n", games == 0 ? 0 : draws * 100.0 / games));
+
+        out.append(String.format(Locale.ROOT, "Game length: avg %.1f, p50 <= %d, p90 <= %d, p99 <= %d turns%n",
+                getAverageTurns(), getTurnsPercentile(0.5), getTurnsPercentile(0.9), getTurnsPercentile(0.99)));
+
+        out.append("Property ROI (rent / invested):\n");
+        for (int i = 0; i < boardSize; i++) {
+            if (rules.spaces.get(i).type != Rules.SpaceType.PROP) continue;
+
+            double roi = getReturnOnInvestment(i);
+            out.append(String.format(Locale.ROOT, "  %-16s bought %8d  rent $%12d  roi %s%n",
+                    rules.spaces.get(i).name, timesBought[i], rentCollected[i],
+                    roi < 0 ? "n/a" : String.format(Locale.ROOT, "%.3f", roi)));
+        }
+
+        return out.toString();
+    }
+}
@@ -0,0 +1,170 @@
+package monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+//? Headless batch driver: plays complete games on GameEngine with pluggable buy/build policies, in parallel.
+public class Simulator {
+    private final BuyPolicy[] buyPolicies;
+    private final BuildPolicy[] buildPolicies;
+    private final List<String> playerNames = new ArrayList<>();
+
+    private int maxTurns = 1_000;
+    private int histogramBucket = 25;
+    private int gamesPerTask = 64;
+    private long seed = System.nanoTime();
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private Rules rules = Rules.Default();
+
+    //! One policy per seat, both arrays must be the same length (2-4 players like the UI).
+    public Simulator(BuyPolicy[] buyPolicies, BuildPolicy[] buildPolicies) {
+        if (buyPolicies.length != buildPolicies.length || buyPolicies.length < 2) {
+            throw new IllegalArgumentException("Need matching buy/build policies for at least 2 seats");
+        }
+
+        this.buyPolicies = buyPolicies.clone();
+        this.buildPolicies = buildPolicies.clone();
+
+        for (int i = 0; i < buyPolicies.length; i++) {
+            playerNames.add("Player" + (i + 1));
+        }
+    }
+
+    public Simulator setMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+        return this;
+    }
+
+    public Simulator setHistogramBucket(int histogramBucket) {
+        this.histogramBucket = histogramBucket;
+        return this;
+    }
+
+    public Simulator setGamesPerTask(int gamesPerTask) {
+        this.gamesPerTask = gamesPerTask;
+        return this;
+    }
+
+    public Simulator setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public Simulator setPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    //! Every game shares the one (immutable) Rules instance
+    public Simulator setRules(Rules rules) {
+        this.rules = rules;
+        return this;
+    }
+
+    public Rules getRules() {
+        return rules;
+    }
+
+    public int getSeats() {
+        return buyPolicies.length;
+    }
+
+    public SimulationResult run(int games) {
+        long start = System.nanoTime();
+        SimulationResult result = pool.invoke(new GameRange(0, games));
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private SimulationResult newResult() {
+        return new SimulationResult(getSeats(), rules.getBoardSize(), maxTurns, histogramBucket);
+    }
+
+    void playGame(long gameIndex, SimulationResult result) {
+        //! Game N always gets stream N of the root generator, so results don't depend on thread scheduling
+        GameEngine engine = new GameEngine(new GameRandom(seed).stream(gameIndex));
+        engine.newGame(playerNames, rules);
+
+        List<Player> players = engine.getPlayers();
+        int turns = 0;
+
+        while (!engine.isGameOver() && turns < maxTurns) {
+            int seat = engine.getCurrentPlayerIndex();
+            Player player = players.get(seat);
+
+            if (!engine.isWaitingForPropertyDecision()) {
+                build(engine, player, buildPolicies[seat], result);
+            }
+
+            engine.rollDice();
+            turns++;
+
+            if (engine.getLastRentPaid() > 0) {
+                result.rentCollected[engine.getLastRentIndex()] += engine.getLastRentPaid();
+            }
+
+            if (engine.isWaitingForPropertyDecision()) {
+                Property property = engine.getPendingProperty();
+                int index = player.position;
+
+                if (buyPolicies[seat].shouldBuy(engine, player, property)) {
+                    result.invested[index] += property.getPrice();
+                    result.timesBought[index]++;
+                    engine.buyProperty();
+                } else {
+                    engine.declineProperty();
+                }
+            }
+        }
+
+        Player winner = engine.getWinner();
+        result.recordGame(winner == null ? -1 : players.indexOf(winner), turns);
+    }
+
+    private void build(GameEngine engine, Player player, BuildPolicy policy, SimulationResult result) {
+        if (policy == BuildPolicy.NEVER) return;
+
+        Board board = engine.getBoard();
+        for (int slot = board.nextOwnedSlot(player, 0); slot >= 0; slot = board.nextOwnedSlot(player, slot + 1)) {
+            Property property = board.getPropertyInSlot(slot);
+            int index = property.getIndex();
+
+            if (engine.canBuildHotel(property) && policy.shouldBuild(engine, player, property)) {
+                engine.buildHotel(property);
+                result.invested[index] += property.getHousePrice();
+            } else if (engine.canBuildHouse(property) && policy.shouldBuild(engine, player, property)) {
+                engine.buildHouse(property);
+                result.invested[index] += property.getHousePrice();
+            }
+        }
+    }
+
+    private class GameRange extends RecursiveTask<SimulationResult> {
+        private final long from;
+        private final long to;
+
+        GameRange(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= gamesPerTask) {
+                SimulationResult result = newResult();
+                for (long game = from; game < to; game++) {
+                    playGame(game, result);
+                }
+                return result;
+            }
+
+            long mid = (from + to) >>> 1;
+            GameRange left = new GameRange(from, mid);
+            left.fork();
+            SimulationResult right = new GameRange(mid, to).compute();
+            return right.merge(left.join());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+//? Runs bot decisions off the caller's thread. The Decision (a fork of the game) is taken on the calling
+//? thread, the strategy thinks on a background thread, and the future completes there; UI code hops back
+//? with Platform.runLater before touching the engine.
+public final class StrategyRunner {
+    //! One thread: a game asks one question at a time. MonteCarloStrategy fans out onto its own pool.
+    private static final ExecutorService BOT_EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "monopoly-bot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private StrategyRunner() {
+    }
+
+    //? Bot time budget per decision, -Dmonopoly.bot.budget=<ms> (default 250).
+    public static long DefaultBudgetNanos() {
+        return Long.getLong("monopoly.bot.budget", 250) * 1_000_000L;
+    }
+
+    //? Buy or decline the engine's pending property. Call on the thread that owns the engine.
+    public static CompletableFuture<Boolean> DecideBuy(PlayerStrategy strategy, GameEngine engine, long budgetNanos) {
+        Decision decision = Decision.of(engine, budgetNanos);
+        return CompletableFuture.supplyAsync(() -> strategy.shouldBuy(decision), BOT_EXECUTOR);
+    }
+
+    //? Builds to make before rolling, in order, as property slots (see PlayerStrategy.chooseBuild).
+    //? Call on the thread that owns the engine; the whole plan shares one budget.
+    public static CompletableFuture<int[]> PlanBuilds(PlayerStrategy strategy, GameEngine engine, long budgetNanos) {
+        Decision decision = Decision.of(engine, budgetNanos);
+        return CompletableFuture.supplyAsync(() -> PlanBuilds(strategy, decision), BOT_EXECUTOR);
+    }
+
+    //? Same as above, on the calling thread: asks chooseBuild until it says stop, applying each build to the
+    //? decision's fork so the next question sees it.
+    public static int[] PlanBuilds(PlayerStrategy strategy, Decision decision) {
+        List<Integer> plan = new ArrayList<>();
+        int limit = decision.state.propertyCount * (LandingAnalysis.HOTEL + 1); //! Every build possible, guards a bot that never says stop
+
+        while (plan.size() < limit) {
+            int slot = strategy.chooseBuild(decision);
+            if (slot < 0 || !PlayerStrategy.build(decision.getEngine(), decision.state, slot)) break;
+            plan.add(slot);
+        }
+
+        int[] slots = new int[plan.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = plan.get(i);
+        }
+        return slots;
+    }
+
+    //? One whole bot roll on the calling thread: builds (unless a buy decision is still open), rolls, and
+    //? answers the buy question if the roll raised one. For headless drivers (Tournament, CommandLine).
+    public static void TakeTurn(PlayerStrategy strategy, GameEngine engine, long budgetNanos) {
+        if (!engine.isWaitingForPropertyDecision()) {
+            for (int slot : PlanBuilds(strategy, Decision.of(engine, budgetNanos))) {
+                Property property = engine.getBoard().getPropertyInSlot(slot);
+                if (engine.canBuildHotel(property)) {
+                    engine.buildHotel(property);
+                } else if (engine.canBuildHouse(property)) {
+                    engine.buildHouse(property);
+                }
+            }
+        }
+
+        engine.rollDice();
+
+        if (engine.isWaitingForPropertyDecision()) {
+            if (strategy.shouldBuy(Decision.of(engine, budgetNanos))) {
+                engine.buyProperty();
+            } else {
+                engine.declineProperty();
+            }
+        }
+    }
+}
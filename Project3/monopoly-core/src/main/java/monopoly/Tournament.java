@@ -0,0 +1,335 @@
+package monopoly;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.CRC32C;
+
+//? Pits PlayerStrategies against each other over many seeded GameEngine games, in parallel, and ranks them
+//? (TournamentResult: Elo and win rates with 95% intervals).
+//?
+//? Games are grouped into rounds of `seats` games. A round plays one table (a set of strategies, cycling
+//? through every combination) with the seating rotated one step per game, and all games of a round roll
+//? the same dice stream, so no strategy profits from a lucky seat or lucky dice.
+//!
+//! Game N is fully determined by the seed and N, so a run can stop anywhere and pick up from its checkpoint:
+//! the file holds the settings, the next game and the standings so far, and is rewritten (atomically, like
+//! saves) after every block of games. Strategies with a time budget (MonteCarloStrategy) are the exception,
+//! their sample counts depend on the machine.
+//! Strategy instances are shared by all worker threads, so they must be thread-safe (the built-in ones are).
+//! A MonteCarloStrategy on the tournament's own pool gets a private rollout pool for the run (see run), so with a
+//! budget the games and the rollouts compete for the same cores: expect fewer samples per decision than alone.
+public class Tournament {
+    public static final int CHECKPOINT_MAGIC = 0x4D504C54; //! "MPLT"
+    public static final short CHECKPOINT_VERSION = 1;
+
+    private final PlayerStrategy[] strategies;
+    private final String[] names;
+    private final List<int[]> tables = new ArrayList<>();
+
+    private int seats;
+    private int maxTurns = 1_000;
+    private int gamesPerTask = 16;
+    private long budgetNanos = 0;      //! Per decision; 0 = heuristics only, Monte Carlo falls back to expected value
+    private long seed = System.nanoTime();
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private Rules rules = Rules.Default();
+    private Path checkpoint;
+    private long checkpointEvery = 10_000;
+
+    public Tournament(PlayerStrategy... strategies) {
+        if (strategies.length < 2) {
+            throw new IllegalArgumentException("Need at least 2 strategies");
+        }
+
+        this.strategies = strategies.clone();
+        this.names = new String[strategies.length];
+        for (int i = 0; i < strategies.length; i++) {
+            names[i] = strategies[i].getName();
+        }
+        setSeats(Math.min(strategies.length, 4));
+    }
+
+    //! 2-4 like the UI, and at most one seat per strategy
+    public Tournament setSeats(int seats) {
+        if (seats < 2 || seats > 4 || seats > strategies.length) {
+            throw new IllegalArgumentException("Seats must be 2-4 and no more than the strategies");
+        }
+        this.seats = seats;
+
+        tables.clear();
+        addTables(new int[seats], 0, 0);
+        return this;
+    }
+
+    //! Every combination of `seats` strategies, in lexicographic order
+    private void addTables(int[] table, int filled, int from) {
+        if (filled == table.length) {
+            tables.add(table.clone());
+            return;
+        }
+        for (int strategy = from; strategy < strategies.length; strategy++) {
+            table[filled] = strategy;
+            addTables(table, filled + 1, strategy + 1);
+        }
+    }
+
+    public Tournament setMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+        return this;
+    }
+
+    public Tournament setGamesPerTask(int gamesPerTask) {
+        this.gamesPerTask = gamesPerTask;
+        return this;
+    }
+
+    public Tournament setBudgetNanos(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+        return this;
+    }
+
+    public Tournament setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public Tournament setPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    public Tournament setRules(Rules rules) {
+        this.rules = rules;
+        return this;
+    }
+
+    //? Resume from / save progress to this file every `every` (> 0) games. null turns checkpoints off.
+    public Tournament setCheckpoint(Path checkpoint, long every) {
+        if (checkpoint != null && every <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.checkpoint = checkpoint;
+        this.checkpointEvery = every;
+        return this;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    //? Strategy index per seat for game N.
+    public int[] lineup(long game) {
+        long round = game / seats;
+        int rotation = (int) (game % seats);
+        int[] table = tables.get((int) (round % tables.size()));
+
+        int[] lineup = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            lineup[seat] = table[(seat + rotation) % seats];
+        }
+        return lineup;
+    }
+
+    //? Plays games [0, games), or only the ones still missing if the checkpoint file has earlier progress.
+    //? Throws IOException if the checkpoint can't be read or belongs to a different tournament.
+    public TournamentResult run(long games) throws IOException {
+        TournamentResult result = newResult();
+        long next = 0;
+
+        if (checkpoint != null && Files.exists(checkpoint)) {
+            next = readCheckpoint(result);
+        }
+
+        //! Monte Carlo rollouts on the pool that plays the games would be joined by game workers, which then
+        //! steal other games while they wait and blow through the decision's deadline. Give them their own pool.
+        ForkJoinPool rollouts = null;
+        PlayerStrategy[] playing = strategies.clone();
+        for (int i = 0; i < playing.length; i++) {
+            if (budgetNanos > 0 && playing[i] instanceof MonteCarloStrategy && ((MonteCarloStrategy) playing[i]).getPool() == pool) {
+                if (rollouts == null) rollouts = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+                playing[i] = ((MonteCarloStrategy) playing[i]).withPool(rollouts);
+            }
+        }
+
+        try {
+            while (next < games) {
+                long end = checkpoint == null ? games : Math.min(games, next + checkpointEvery);
+
+                long start = System.nanoTime();
+                result.merge(pool.invoke(new GameRange(playing, next, end)));
+                result.elapsedNanos += System.nanoTime() - start;
+                next = end;
+
+                if (checkpoint != null) {
+                    writeCheckpoint(next, result);
+                }
+            }
+        } finally {
+            if (rollouts != null) rollouts.shutdown();
+        }
+
+        return result;
+    }
+
+    private TournamentResult newResult() {
+        return new TournamentResult(names, seats);
+    }
+
+    void playGame(PlayerStrategy[] strategies, long game, TournamentResult result) {
+        int[] lineup = lineup(game);
+
+        //! Every game of a round shares its dice, only the seating differs
+        GameEngine engine = new GameEngine(new GameRandom(seed).stream(game / seats));
+        List<String> playerNames = new ArrayList<>(seats);
+        for (int seat = 0; seat < seats; seat++) {
+            playerNames.add(names[lineup[seat]]);
+        }
+        engine.newGame(playerNames, rules);
+
+        List<Player> players = engine.getPlayers();
+        int turns = 0;
+
+        while (!engine.isGameOver() && turns < maxTurns) {
+            StrategyRunner.TakeTurn(strategies[lineup[engine.getCurrentPlayerIndex()]], engine, budgetNanos);
+            turns++;
+        }
+
+        Player winner = engine.getWinner();
+        result.recordGame(lineup, winner == null ? -1 : players.indexOf(winner), turns);
+    }
+
+    //? Everything that decides which games get played; a checkpoint only resumes a tournament with the same one.
+    private String settings() {
+        return rules.name + "|" + rules.startCash + "|" + rules.goReward + "|" + rules.jailFee + "|" + rules.maxConsecutiveDoubles
+                + "|seats=" + seats + "|maxTurns=" + maxTurns + "|budget=" + budgetNanos + "|seed=" + seed
+                + "|" + String.join(",", names);
+    }
+
+    //! magic, version, settings (UTF), next game, TournamentResult body, CRC32C of everything before it
+    private void writeCheckpoint(long next, TournamentResult result) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(CHECKPOINT_MAGIC);
+        out.writeShort(CHECKPOINT_VERSION);
+        out.writeUTF(settings());
+        out.writeLong(next);
+        result.write(out);
+
+        CRC32C crc = new CRC32C();
+        crc.update(bytes.toByteArray());
+        out.writeInt((int) crc.getValue());
+        out.flush();
+
+        SaveLoad.WriteAtomic(checkpoint, ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    private long readCheckpoint(TournamentResult result) throws IOException {
+        byte[] bytes = Files.readAllBytes(checkpoint);
+        if (bytes.length < 4) throw new IOException("Checkpoint too short: " + checkpoint);
+
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bytes.length - 4);
+        if ((int) crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - 4, 4).getInt()) {
+            throw new IOException("Checkpoint is corrupt: " + checkpoint);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 4));
+        if (in.readInt() != CHECKPOINT_MAGIC) throw new IOException("Not a tournament checkpoint: " + checkpoint);
+        short version = in.readShort();
+        if (version != CHECKPOINT_VERSION) throw new IOException("Unsupported checkpoint version " + version);
+
+        String saved = in.readUTF();
+        if (!saved.equals(settings())) {
+            throw new IOException("Checkpoint is for a different tournament: " + saved);
+        }
+
+        long next = in.readLong();
+        result.read(in);
+        return next;
+    }
+
+    private class GameRange extends RecursiveTask<TournamentResult> {
+        private final PlayerStrategy[] playing;
+        private final long from;
+        private final long to;
+
+        GameRange(PlayerStrategy[] playing, long from, long to) {
+            this.playing = playing;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= gamesPerTask) {
+                TournamentResult result = newResult();
+                for (long game = from; game < to; game++) {
+                    playGame(playing, game, result);
+                }
+                return result;
+            }
+
+            long mid = (from + to) >>> 1;
+            GameRange left = new GameRange(playing, from, mid);
+            left.fork();
+            TournamentResult right = new GameRange(playing, mid, to).compute();
+            return right.merge(left.join());
+        }
+    }
+
+    //? java monopoly.Tournament [games=N] [seats=N] [rules=NAME] [seed=N] [budget=MS] [turns=N] [checkpoint=FILE] STRATEGY...
+    //? Strategies by name without spaces, case-insensitive: Greedy, ExpectedValue, MonteCarlo. Default: all of them.
+    public static void main(String[] args) throws IOException {
+        long games = 100_000;
+        List<PlayerStrategy> strategies = new ArrayList<>();
+        List<String> settings = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.indexOf('=') > 0) {
+                settings.add(arg);
+                continue;
+            }
+            PlayerStrategy strategy = null;
+            for (String name : PlayerStrategy.BUILT_IN) {
+                if (name.replace(" ", "").equalsIgnoreCase(arg)) strategy = PlayerStrategy.byName(name);
+            }
+            if (strategy == null) throw new IllegalArgumentException("Unknown strategy " + arg + ", expected one of " + Arrays.toString(PlayerStrategy.BUILT_IN));
+            strategies.add(strategy);
+        }
+        if (strategies.isEmpty()) {
+            for (String name : PlayerStrategy.BUILT_IN) {
+                strategies.add(PlayerStrategy.byName(name));
+            }
+        }
+        Tournament tournament = new Tournament(strategies.toArray(new PlayerStrategy[0])).setSeed(1); //! Fixed, so a rerun resumes its checkpoint
+
+        for (String setting : settings) {
+            String key = setting.substring(0, setting.indexOf('='));
+            String value = setting.substring(setting.indexOf('=') + 1);
+            switch (key) {
+                case "games": games = Long.parseLong(value); break;
+                case "seats": tournament.setSeats(Integer.parseInt(value)); break;
+                case "rules": tournament.setRules(Rules.Get(value)); break;
+                case "seed": tournament.setSeed(Long.parseLong(value)); break;
+                case "budget": tournament.setBudgetNanos(Long.parseLong(value) * 1_000_000L); break;
+                case "turns": tournament.setMaxTurns(Integer.parseInt(value)); break;
+                case "checkpoint": tournament.setCheckpoint(Paths.get(value), 10_000); break;
+                default: throw new IllegalArgumentException("Unknown setting " + key);
+            }
+        }
+
+        System.out.print(tournament.run(games).report());
+    }
+}
@@ -0,0 +1,267 @@
+package monopoly;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+//? Standings for a Tournament: per-strategy wins, head-to-head scores, per-seat wins. Like SimulationResult,
+//? each worker fills its own copy and they are merged at the end, so the hot loop never shares a counter.
+//?
+//! Head-to-head scoring for games with more than two seats: the winner beats everyone else at the table,
+//! losers don't score against each other, and a game that hits the turn cap is a draw between every pair.
+public class TournamentResult {
+    private static final double Z95 = 1.959964;
+    private static final double ELO_SCALE = 400 / Math.log(10);
+
+    public final String[] strategies;
+    public final int seats;
+
+    public long games;
+    public long draws;
+    public long totalTurns;
+    public long elapsedNanos;
+
+    public final long[] played;      //! Per strategy
+    public final long[] wins;
+    public final long[][] pairGames; //! [i][j]: games that scored i against j (see above)
+    public final long[][] pairPoints;//! [i][j]: i's score against j in half points (win 2, draw 1)
+    public final long[] seatWins;    //! Per seat, shows how much going first is worth
+
+    public TournamentResult(String[] strategies, int seats) {
+        this.strategies = strategies.clone();
+        this.seats = seats;
+
+        int count = strategies.length;
+        this.played = new long[count];
+        this.wins = new long[count];
+        this.pairGames = new long[count][count];
+        this.pairPoints = new long[count][count];
+        this.seatWins = new long[seats];
+    }
+
+    //! lineup[seat] = strategy index, winnerSeat -1 for a draw
+    public void recordGame(int[] lineup, int winnerSeat, int turns) {
+        games++;
+        totalTurns += turns;
+
+        for (int strategy : lineup) {
+            played[strategy]++;
+        }
+
+        if (winnerSeat < 0) {
+            draws++;
+            for (int a = 0; a < lineup.length; a++) {
+                for (int b = a + 1; b < lineup.length; b++) {
+                    score(lineup[a], lineup[b], 1);
+                }
+            }
+            return;
+        }
+
+        int winner = lineup[winnerSeat];
+        wins[winner]++;
+        seatWins[winnerSeat]++;
+        for (int seat = 0; seat < lineup.length; seat++) {
+            if (seat != winnerSeat) score(winner, lineup[seat], 2);
+        }
+    }
+
+    private void score(int a, int b, int pointsForA) {
+        pairGames[a][b]++;
+        pairGames[b][a]++;
+        pairPoints[a][b] += pointsForA;
+        pairPoints[b][a] += 2 - pointsForA;
+    }
+
+    public TournamentResult merge(TournamentResult other) {
+        games += other.games;
+        draws += other.draws;
+        totalTurns += other.totalTurns;
+        elapsedNanos += other.elapsedNanos;
+
+        for (int i = 0; i < strategies.length; i++) {
+            played[i] += other.played[i];
+            wins[i] += other.wins[i];
+            for (int j = 0; j < strategies.length; j++) {
+                pairGames[i][j] += other.pairGames[i][j];
+                pairPoints[i][j] += other.pairPoints[i][j];
+            }
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            seatWins[seat] += other.seatWins[seat];
+        }
+
+        return this;
+    }
+
+    public double getWinRate(int strategy) {
+        return played[strategy] == 0 ? 0 : (double) wins[strategy] / played[strategy];
+    }
+
+    //? 95% Wilson score interval for the win rate, {low, high}. Stays inside [0, 1] even for tiny samples.
+    public double[] getWinRateInterval(int strategy) {
+        long n = played[strategy];
+        if (n == 0) return new double[] {0, 1};
+
+        double p = getWinRate(strategy);
+        double z2 = Z95 * Z95;
+        double centre = (p + z2 / (2 * n)) / (1 + z2 / n);
+        double half = Z95 * Math.sqrt(p * (1 - p) / n + z2 / (4.0 * n * n)) / (1 + z2 / n);
+        return new double[] {Math.max(0, centre - half), Math.min(1, centre + half)};
+    }
+
+    public double getSeatWinRate(int seat) {
+        return games == 0 ? 0 : (double) seatWins[seat] / games;
+    }
+
+    //? Elo ratings (mean 1500) fitted to the head-to-head scores with a Bradley-Terry model.
+    //! Minorization-maximization (Hunter 2004). Each pair also gets one virtual draw so a strategy that never
+    //! won (or never lost) still gets a finite rating.
+    public double[] getElo() {
+        double[] strength = fitStrength();
+        double[] elo = new double[strength.length];
+        for (int i = 0; i < elo.length; i++) {
+            elo[i] = 1500 + ELO_SCALE * Math.log(strength[i]);
+        }
+        return elo;
+    }
+
+    //? Half-width of the 95% interval of each Elo rating, from the fit's Fisher information.
+    public double[] getEloError() {
+        double[] strength = fitStrength();
+        double[] error = new double[strength.length];
+
+        for (int i = 0; i < strength.length; i++) {
+            double information = 0;
+            for (int j = 0; j < strength.length; j++) {
+                if (i == j) continue;
+                double p = strength[i] / (strength[i] + strength[j]);
+                information += (pairGames[i][j] + 1) * p * (1 - p);
+            }
+            error[i] = information == 0 ? Double.POSITIVE_INFINITY : Z95 * ELO_SCALE / Math.sqrt(information);
+        }
+        return error;
+    }
+
+    private double[] fitStrength() {
+        int count = strategies.length;
+        double[] strength = new double[count];
+        Arrays.fill(strength, 1);
+
+        for (int iteration = 0; iteration < 10_000; iteration++) {
+            double change = 0;
+            double logSum = 0;
+
+            for (int i = 0; i < count; i++) {
+                double score = 0;
+                double denominator = 0;
+                for (int j = 0; j < count; j++) {
+                    if (i == j) continue;
+                    score += pairPoints[i][j] / 2.0 + 0.5;
+                    denominator += (pairGames[i][j] + 1) / (strength[i] + strength[j]);
+                }
+                double updated = score / denominator;
+                change = Math.max(change, Math.abs(Math.log(updated / strength[i])));
+                strength[i] = updated;
+                logSum += Math.log(updated);
+            }
+
+            double scale = Math.exp(-logSum / count); //! Geometric mean 1, i.e. mean Elo 1500
+            for (int i = 0; i < count; i++) {
+                strength[i] *= scale;
+            }
+            if (change < 1e-10) break;
+        }
+        return strength;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public String report() {
+        StringBuilder out = new StringBuilder();
+        double[] elo = getElo();
+        double[] eloError = getEloError();
+
+        out.append(String.format(Locale.ROOT, "Games: %d  Turns: %d  Draws (turn cap): %.2f%%  (%.0f games/sec)%n",
+                games, totalTurns, games == 0 ? 0 : draws * 100.0 / games, getGamesPerSecond()));
+
+        Integer[] order = new Integer[strategies.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(elo[b], elo[a]));
+
+        out.append(String.format(Locale.ROOT, "  %-16s %7s %11s %10s %21s%n", "Strategy", "Elo", "(95%)", "Games", "Win rate (95%)"));
+        for (int i : order) {
+            double[] interval = getWinRateInterval(i);
+            out.append(String.format(Locale.ROOT, "  %-16s %7.0f %11s %10d %7.2f%% [%5.2f, %5.2f]%n",
+                    strategies[i], elo[i], String.format(Locale.ROOT, "+/- %.0f", eloError[i]), played[i],
+                    getWinRate(i) * 100, interval[0] * 100, interval[1] * 100));
+        }
+
+        out.append("Head to head (row's score vs column, draws count half):\n");
+        out.append(String.format(Locale.ROOT, "  %-16s", ""));
+        for (int j = 0; j < strategies.length; j++) {
+            out.append(String.format(Locale.ROOT, " %8.8s", strategies[j]));
+        }
+        out.append('\n');
+        for (int i = 0; i < strategies.length; i++) {
+            out.append(String.format(Locale.ROOT, "  %-16s", strategies[i]));
+            for (int j = 0; j < strategies.length; j++) {
+                if (i == j || pairGames[i][j] == 0) {
+                    out.append(String.format(Locale.ROOT, " %8s", "-"));
+                } else {
+                    out.append(String.format(Locale.ROOT, " %7.2f%%", pairPoints[i][j] * 50.0 / pairGames[i][j]));
+                }
+            }
+            out.append('\n');
+        }
+
+        out.append("Win rate by seat:");
+        for (int seat = 0; seat < seats; seat++) {
+            out.append(String.format(Locale.ROOT, "  %d: %.2f%%", seat + 1, getSeatWinRate(seat) * 100));
+        }
+        out.append('\n');
+
+        return out.toString();
+    }
+
+    //? Checkpoint body (see Tournament); the caller writes the header and checks the shape on the way back in.
+    void write(DataOutputStream out) throws IOException {
+        out.writeLong(games);
+        out.writeLong(draws);
+        out.writeLong(totalTurns);
+        out.writeLong(elapsedNanos);
+        for (int i = 0; i < strategies.length; i++) {
+            out.writeLong(played[i]);
+            out.writeLong(wins[i]);
+            for (int j = 0; j < strategies.length; j++) {
+                out.writeLong(pairGames[i][j]);
+                out.writeLong(pairPoints[i][j]);
+            }
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            out.writeLong(seatWins[seat]);
+        }
+    }
+
+    void read(DataInputStream in) throws IOException {
+        games = in.readLong();
+        draws = in.readLong();
+        totalTurns = in.readLong();
+        elapsedNanos = in.readLong();
+        for (int i = 0; i < strategies.length; i++) {
+            played[i] = in.readLong();
+            wins[i] = in.readLong();
+            for (int j = 0; j < strategies.length; j++) {
+                pairGames[i][j] = in.readLong();
+                pairPoints[i][j] = in.readLong();
+            }
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            seatWins[seat] = in.readLong();
+        }
+    }
+}
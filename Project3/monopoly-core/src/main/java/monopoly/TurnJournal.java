@@ -0,0 +1,434 @@
+package monopoly;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+//? Append-only log of every GameEngine action, sitting next to a .sav snapshot.
+//?
+//? Records are 4 bytes (type + 3 payload bytes) and are buffered in memory. A background thread
+//? group-commits them: one write + one fsync per batch, at most every `commitDelayMillis`.
+//? Every `compactEvery` records the journal takes a fresh snapshot and starts a new, empty journal,
+//? so replay never has to chew through a whole session.
+//?
+//? File layout: magic "MPLJ" | version u16 | reserved u16 | base snapshot CRC32C i32,
+//? then batches of: record count i32 | CRC32C of the records i32 | records.
+//! The base CRC ties a journal to the exact snapshot it continues from. If a crash lands between writing
+//! a new snapshot and starting its journal, the old journal no longer matches and is (correctly) ignored.
+public class TurnJournal implements Closeable {
+    public static final int MAGIC = 0x4D504C4A; //! "MPLJ"
+    public static final short VERSION = 1;
+    public static final String EXTENSION = ".journal";
+    private static final int HEADER_SIZE = 12;
+    private static final int RECORD_SIZE = 4;
+
+    static final byte ROLL = 1;        //! dice1, dice2, card index (-1 = none)
+    static final byte BUY = 2;
+    static final byte DECLINE = 3;
+    static final byte BUILD_HOUSE = 4; //! slot (u16)
+    static final byte BUILD_HOTEL = 5; //! slot (u16)
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final int commitDelayMillis;
+    private final int compactEvery;
+
+    private final Object lock = new Object();
+    private ByteBuffer pending = ByteBuffer.allocate(4096);
+    private ByteBuffer writing = ByteBuffer.allocate(4096);
+    private SaveLoad.Snapshot pendingSnapshot = null; //! Compaction requested by the engine thread
+    private int snapshotMark = 0;                     //! Bytes of `pending` already covered by pendingSnapshot
+    private long appended = 0;
+    private long durable = 0;
+    private long sinceCompaction = 0;
+    private IOException failure = null;
+    private Consumer<IOException> onFailure = null;
+    private boolean closed = false;
+
+    private FileChannel channel; //! Only touched by the commit thread (and the constructor)
+    private final Thread committer;
+
+    //? Starts journaling `engine` under savedata/<fileName>: writes a fresh snapshot, an empty journal, and attaches itself.
+    //? Refuses (IOException) if that save already exists; use replace to write over it on purpose.
+    public static TurnJournal start(String fileName, GameEngine engine) throws IOException {
+        return start(fileName, engine, 20, 1_000, false);
+    }
+
+    //? Like start, but takes over an existing savedata/<fileName>. That is what continuing a loaded game or saving over
+    //? a slot means: the snapshot written here already holds everything the old .sav + .journal did.
+    public static TurnJournal replace(String fileName, GameEngine engine) throws IOException {
+        return start(fileName, engine, 20, 1_000, true);
+    }
+
+    //? Like replace, but never compacts: the .sav stays the game's starting point, so GameReplay can watch the whole game.
+    public static TurnJournal record(String fileName, GameEngine engine) throws IOException {
+        return start(fileName, engine, 20, 0, true);
+    }
+
+    //? `compactEvery` <= 0 disables compaction. Without `overwrite`, an existing savedata/<fileName>.sav is an error.
+    public static TurnJournal start(String fileName, GameEngine engine, int commitDelayMillis, int compactEvery, boolean overwrite) throws IOException {
+        if (!overwrite && SaveLoad.HasBinary(fileName)) {
+            throw new IOException("Save already exists: " + SaveLoad.BinaryPath(fileName));
+        }
+        TurnJournal journal = new TurnJournal(SaveLoad.BinaryPath(fileName), JournalPath(fileName), commitDelayMillis, compactEvery, SaveLoad.Capture(engine));
+        engine.setJournal(journal);
+        return journal;
+    }
+
+    public static Path JournalPath(String fileName) {
+        return Paths.get("savedata", fileName + EXTENSION);
+    }
+
+    private TurnJournal(Path snapshotPath, Path journalPath, int commitDelayMillis, int compactEvery, SaveLoad.Snapshot snapshot) throws IOException {
+        this.snapshotPath = snapshotPath;
+        this.journalPath = journalPath;
+        this.commitDelayMillis = commitDelayMillis;
+        this.compactEvery = compactEvery;
+
+        rotate(snapshot);
+
+        committer = new Thread(this::commitLoop, "monopoly-journal");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    //? Engine hooks (engine thread)
+
+    void logRoll(GameEngine engine, int dice1, int dice2, int card) {
+        append(engine, ROLL, dice1, dice2, card);
+    }
+
+    void logBuy(GameEngine engine) {
+        append(engine, BUY, 0, 0, 0);
+    }
+
+    void logDecline(GameEngine engine) {
+        append(engine, DECLINE, 0, 0, 0);
+    }
+
+    void logBuildHouse(GameEngine engine, int slot) {
+        append(engine, BUILD_HOUSE, 0, slot >> 8, slot);
+    }
+
+    void logBuildHotel(GameEngine engine, int slot) {
+        append(engine, BUILD_HOTEL, 0, slot >> 8, slot);
+    }
+
+    private void append(GameEngine engine, byte type, int a, int b, int c) {
+        synchronized (lock) {
+            if (closed || failure != null) return; //! Nothing would ever write it; see setOnFailure
+
+            if (pending.remaining() < RECORD_SIZE) {
+                ByteBuffer bigger = ByteBuffer.allocate(pending.capacity() * 2);
+                pending.flip();
+                bigger.put(pending);
+                pending = bigger;
+            }
+
+            pending.put(type).put((byte) a).put((byte) b).put((byte) c);
+            appended++;
+            sinceCompaction++;
+
+            //! The snapshot is taken here, in step with the records; writing it happens on the commit thread
+            if (compactEvery > 0 && sinceCompaction >= compactEvery && pendingSnapshot == null) {
+                pendingSnapshot = SaveLoad.Capture(engine);
+                snapshotMark = pending.position();
+                sinceCompaction = 0;
+            }
+
+            lock.notifyAll();
+        }
+    }
+
+    //? Blocks until everything logged so far is on disk.
+    public void flush() throws IOException {
+        synchronized (lock) {
+            long target = appended;
+            lock.notifyAll();
+            while (durable < target && failure == null && !closed) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while flushing journal", e);
+                }
+            }
+            if (failure != null) throw failure;
+        }
+    }
+
+    //? Called once, on the commit thread, if a write fails (e.g. disk full). From then on the game is no longer
+    //? journaled: records are dropped instead of piling up. Called right away if it has already failed.
+    public void setOnFailure(Consumer<IOException> handler) {
+        IOException failed;
+        synchronized (lock) {
+            onFailure = handler;
+            failed = failure;
+        }
+        if (failed != null && handler != null) handler.accept(failed);
+    }
+
+    //? The write error that stopped the journal, or null while it's healthy.
+    public IOException getFailure() {
+        synchronized (lock) {
+            return failure;
+        }
+    }
+
+    public Path getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    //? True for record(): the .sav is the start of the game, not its latest state.
+    public boolean isRecording() {
+        return compactEvery <= 0;
+    }
+
+    public long getRecordCount() {
+        synchronized (lock) {
+            return appended;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            //! Even if the last flush failed: stop the commit thread and release the file
+            synchronized (lock) {
+                closed = true;
+                lock.notifyAll();
+            }
+            try {
+                committer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (channel != null) channel.close();
+        }
+    }
+
+    //? Commit thread
+
+    private void commitLoop() {
+        while (true) {
+            SaveLoad.Snapshot snapshot;
+            int mark;
+            long batchEnd;
+
+            synchronized (lock) {
+                while (pending.position() == 0 && pendingSnapshot == null && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed && pending.position() == 0 && pendingSnapshot == null) return;
+
+                ByteBuffer swap = writing;
+                writing = pending;
+                pending = swap;
+                pending.clear();
+
+                snapshot = pendingSnapshot;
+                mark = snapshotMark;
+                pendingSnapshot = null;
+                snapshotMark = 0;
+                batchEnd = appended;
+            }
+
+            try {
+                writing.flip();
+                if (snapshot != null) {
+                    //! Records up to the mark are already inside the snapshot: start a new journal with the rest
+                    rotate(snapshot);
+                    writing.position(mark);
+                }
+                writeBatch(writing);
+                writing.clear();
+            } catch (IOException e) {
+                Consumer<IOException> handler;
+                synchronized (lock) {
+                    failure = e;
+                    pending.clear();
+                    pendingSnapshot = null;
+                    handler = onFailure;
+                    lock.notifyAll();
+                }
+                if (handler != null) handler.accept(e);
+                return;
+            }
+
+            synchronized (lock) {
+                durable = batchEnd;
+                lock.notifyAll();
+            }
+
+            //! Group commit: let records pile up for a moment before the next write + fsync
+            if (commitDelayMillis > 0) {
+                try {
+                    Thread.sleep(commitDelayMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    //? Writes `snapshot` atomically, then replaces the journal with an empty one based on it.
+    private void rotate(SaveLoad.Snapshot snapshot) throws IOException {
+        ByteBuffer encoded = SaveLoad.Encode(snapshot);
+        int baseChecksum = SaveLoad.Checksum(encoded);
+        SaveLoad.WriteAtomic(snapshotPath, encoded);
+
+        if (channel != null) channel.close();
+        channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(baseChecksum);
+        header.flip();
+        writeFully(header);
+        channel.force(true);
+    }
+
+    private void writeBatch(ByteBuffer records) throws IOException {
+        int count = records.remaining() / RECORD_SIZE;
+        if (count == 0) return;
+
+        CRC32C crc = new CRC32C();
+        crc.update(records.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(8);
+        header.putInt(count).putInt((int) crc.getValue());
+        header.flip();
+
+        writeFully(header);
+        writeFully(records);
+        channel.force(false);
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    //? Recovery
+
+    //? Loads savedata/<fileName>.sav and replays its journal on top. Returns the number of records replayed,
+    //? or -1 if the snapshot couldn't be loaded. A torn last batch (crash mid-write) is dropped.
+    public static long recover(String fileName, GameEngine engine) {
+        Path snapshotPath = SaveLoad.BinaryPath(fileName);
+        if (!SaveLoad.LoadBinary(snapshotPath, engine)) return -1;
+
+        Path journalPath = JournalPath(fileName);
+        if (!Files.isRegularFile(journalPath)) return 0;
+
+        try {
+            return replay(journalPath, SaveLoad.Checksum(snapshotPath), engine);
+        } catch (IOException e) {
+            System.out.println("Journal error: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    static long replay(Path journalPath, int snapshotChecksum, GameEngine engine) throws IOException {
+        Reader reader = Reader.open(journalPath, snapshotChecksum);
+        TurnJournal attached = engine.getJournal();
+        engine.setJournal(null);
+        long replayed = 0;
+
+        try {
+            while (reader.step(engine)) {
+                replayed++;
+            }
+        } finally {
+            engine.setJournal(attached);
+        }
+
+        return replayed;
+    }
+
+    //? Walks a journal one record at a time, checking each batch's CRC before using any of it.
+    //? Used by recovery (all at once) and GameReplay (paced). The engine should have no journal attached.
+    static final class Reader {
+        private final ByteBuffer data;
+        private ByteBuffer records = ByteBuffer.allocate(0);
+
+        private Reader(ByteBuffer data) {
+            this.data = data;
+        }
+
+        //? An empty reader if the journal was written for a different snapshot.
+        static Reader open(Path journalPath, int snapshotChecksum) throws IOException {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+            if (data.remaining() < HEADER_SIZE || data.getInt() != MAGIC) throw new IOException("Not a journal file");
+            short version = data.getShort();
+            if (version != VERSION) throw new IOException("Unsupported journal version " + version);
+            data.getShort();
+            if (data.getInt() != snapshotChecksum) data.position(data.limit()); //! Journal belongs to an older snapshot
+            return new Reader(data);
+        }
+
+        //? Applies the next record to `engine`. False once the journal (or its last intact batch) is used up.
+        boolean step(GameEngine engine) throws IOException {
+            if (!records.hasRemaining() && !nextBatch()) return false;
+            apply(engine, records.get(), records.get(), records.get() & 0xFF, records.get() & 0xFF);
+            return true;
+        }
+
+        private boolean nextBatch() {
+            if (data.remaining() < 8) return false;
+            int count = data.getInt();
+            int checksum = data.getInt();
+            if (count <= 0 || data.remaining() < count * RECORD_SIZE) return stop();
+
+            ByteBuffer batch = data.slice();
+            batch.limit(count * RECORD_SIZE);
+            CRC32C crc = new CRC32C();
+            crc.update(batch.duplicate());
+            if ((int) crc.getValue() != checksum) return stop();
+
+            data.position(data.position() + count * RECORD_SIZE);
+            records = batch;
+            return true;
+        }
+
+        private boolean stop() {
+            data.position(data.limit());
+            return false;
+        }
+    }
+
+    private static void apply(GameEngine engine, byte type, int a, int b, int c) throws IOException {
+        switch (type) {
+            case ROLL:
+                engine.replayRoll(a, b, (byte) c);
+                break;
+            case BUY:
+                engine.buyProperty();
+                break;
+            case DECLINE:
+                engine.declineProperty();
+                break;
+            case BUILD_HOUSE:
+                engine.buildHouse(engine.getBoard().getPropertyInSlot((b << 8) | c));
+                break;
+            case BUILD_HOTEL:
+                engine.buildHotel(engine.getBoard().getPropertyInSlot((b << 8) | c));
+                break;
+            default:
+                throw new EOFException("Unknown journal record " + type);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package monopoly;
+
+//? "What if I buy this?" by Monte Carlo lookahead. The position is forked many times (copy-on-write
+//? GameStates, see GameState.fork), each fork gets its own dice stream and is played a few turns ahead on a
+//? CompactEngine with a simple rollout policy. Buy and decline use the same dice per fork (common random
+//? numbers), so the difference between them isn't drowned out by luck.
+//! Runs on the calling thread and isn't thread-safe (one CompactEngine); keep it off the FX thread.
+public class WhatIf {
+    private final CompactEngine engine;
+
+    private int forks = 1_000;
+    private int turns = 20;      //! Rounds looked ahead, each seat rolls once per round
+    private int reserve = 100;   //! Rollout policy: buy/build only while keeping this much cash
+    private long seed = System.nanoTime();
+
+    public WhatIf(Rules rules) {
+        this.engine = new CompactEngine(rules);
+    }
+
+    public WhatIf setForks(int forks) {
+        this.forks = forks;
+        return this;
+    }
+
+    public WhatIf setTurns(int turns) {
+        this.turns = turns;
+        return this;
+    }
+
+    public WhatIf setReserve(int reserve) {
+        this.reserve = reserve;
+        return this;
+    }
+
+    public WhatIf setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    //? Average net worth of the deciding seat after the lookahead, with and without buying.
+    public static final class Outcome {
+        public final int seat;
+        public final int slot;
+        public final double buy;
+        public final double decline;
+
+        Outcome(int seat, int slot, double buy, double decline) {
+            this.seat = seat;
+            this.slot = slot;
+            this.buy = buy;
+            this.decline = decline;
+        }
+
+        public double getGain() {
+            return buy - decline;
+        }
+
+        public boolean shouldBuy() {
+            return buy > decline;
+        }
+    }
+
+    public Outcome evaluate(GameEngine game) {
+        return evaluate(game.toState());
+    }
+
+    //! `root` is only forked, never modified.
+    public Outcome evaluate(GameState root) {
+        if (!root.isWaitingForPropertyDecision()) {
+            throw new IllegalStateException("No property decision pending");
+        }
+
+        int seat = root.currentPlayer;
+        GameRandom streams = new GameRandom(seed);
+        long buyTotal = 0;
+        long declineTotal = 0;
+
+        for (int i = 0; i < forks; i++) {
+            GameRandom dice = streams.stream(i);
+
+            GameState bought = root.fork();
+            bought.reseed(dice);
+            engine.buyProperty(bought);
+            buyTotal += playOut(bought, seat);
+
+            GameState declined = root.fork();
+            declined.reseed(dice);
+            engine.declineProperty(declined);
+            declineTotal += playOut(declined, seat);
+        }
+
+        return new Outcome(seat, root.pendingSlot, (double) buyTotal / forks, (double) declineTotal / forks);
+    }
+
+    //? Plays `state` forward `turns` rounds (or until the game ends) and returns seat's net worth.
+    public int playOut(GameState state, int seat) {
+        int rolls = turns * state.playerCount;
+
+        for (int roll = 0; roll < rolls && !state.isGameOver(); roll++) {
+            build(state, state.currentPlayer);
+            engine.rollDice(state);
+
+            if (state.isWaitingForPropertyDecision()) {
+                int player = state.currentPlayer;
+                if (state.cash[player] - engine.getPrice(state.pendingSlot) >= reserve) {
+                    engine.buyProperty(state);
+                } else {
+                    engine.declineProperty(state);
+                }
+            }
+        }
+
+        return netWorth(state, seat);
+    }
+
+    private void build(GameState state, int player) {
+        for (int slot = 0; slot < state.propertyCount; slot++) {
+            if (state.owner[slot] != player || state.cash[player] - engine.getHousePrice(slot) < reserve) continue;
+
+            if (engine.canBuildHotel(state, slot)) {
+                engine.buildHotel(state, slot);
+            } else if (engine.canBuildHouse(state, slot)) {
+                engine.buildHouse(state, slot);
+            }
+        }
+    }
+
+    //? See CompactEngine.netWorth.
+    public int netWorth(GameState state, int seat) {
+        return engine.netWorth(state, seat);
+    }
+}
@@ -0,0 +1,85 @@
+package monopoly;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//? CompactEngine must play exactly like GameEngine: same seed, same moves, same state after every action.
+class CompactEngineTest {
+    private static final int SEEDS = 100;
+    private static final int MAX_STEPS = 3_000;
+
+    @Test
+    void matchesGameEngineRollForRoll() throws IOException {
+        int bankruptcies = 0;
+        for (String ruleSet : Rules.Available()) {
+            for (int players = 2; players <= 4; players++) {
+                for (long seed = 0; seed < SEEDS; seed++) {
+                    bankruptcies += playLockstep(ruleSet, players, seed);
+                }
+            }
+        }
+        assertTrue(bankruptcies > 0, "no game went bankrupt, so that path went unchecked");
+    }
+
+    //! Returns how many players went bankrupt, so the caller knows that path was covered
+    private static int playLockstep(String ruleSet, int players, long seed) throws IOException {
+        GameEngine engine = TestGames.newGame(seed, ruleSet, players);
+        CompactEngine compact = new CompactEngine(engine.getBoard());
+        GameState state = compact.newGame(players, new GameRandom(seed));
+        TestGames.assertSameState(engine.toState(), state);
+        String where = ruleSet + ", " + players + " players, seed " + seed;
+
+        for (int step = 0; step < MAX_STEPS && !engine.isGameOver(); step++) {
+            if (engine.isWaitingForPropertyDecision()) {
+                assertEquals(engine.getPendingProperty().getSlot(), state.pendingSlot, where);
+                if (step % 3 != 0) {
+                    engine.buyProperty();
+                    compact.buyProperty(state);
+                } else {
+                    engine.declineProperty();
+                    compact.declineProperty(state);
+                }
+            } else {
+                build(engine, compact, state, where);
+                engine.rollDice();
+                compact.rollDice(state);
+
+                //! A bankrupt player never keeps the turn, even after doubles
+                if (!engine.isGameOver()) {
+                    assertFalse(engine.getCurrentPlayer().isBankrupt, where + ", step " + step);
+                }
+            }
+
+            GameState expected = engine.toState();
+            assertEquals(expected.lastDice1, state.lastDice1, where);
+            assertEquals(expected.lastDice2, state.lastDice2, where);
+            TestGames.assertSameState(expected, state);
+        }
+
+        assertEquals(engine.isGameOver(), state.isGameOver(), where);
+        return players - state.countAlive();
+    }
+
+    private static void build(GameEngine engine, CompactEngine compact, GameState state, String where) {
+        Board board = engine.getBoard();
+        for (int slot = 0; slot < board.getPropertyCount(); slot++) {
+            Property property = board.getPropertyInSlot(slot);
+            assertEquals(engine.canBuildHotel(property), compact.canBuildHotel(state, slot), where + ", hotel on slot " + slot);
+            assertEquals(engine.canBuildHouse(property), compact.canBuildHouse(state, slot), where + ", house on slot " + slot);
+            if (property.owner != engine.getCurrentPlayer()) continue;
+
+            if (engine.canBuildHotel(property)) {
+                engine.buildHotel(property);
+                compact.buildHotel(state, slot);
+            } else if (engine.canBuildHouse(property)) {
+                engine.buildHouse(property);
+                compact.buildHouse(state, slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package monopoly;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//? fork() shares the property arrays copy-on-write. Whatever a fork does must never show up in its parent,
+//? its siblings or the GameSnapshot it came from.
+class GameStateTest {
+    private GameEngine engine;
+    private CompactEngine compact;
+    private GameSnapshot published;
+    private GameState parent;
+
+    @BeforeEach
+    void midDecision() throws IOException {
+        engine = TestGames.newGame(21, "classic", 3);
+        engine.setSnapshotsEnabled(true);
+        for (int turn = 1; !engine.isWaitingForPropertyDecision() || countOwned(engine.toState()) < 3; turn++) {
+            TestGames.step(engine, turn);
+        }
+        compact = new CompactEngine(engine.getRules());
+        published = engine.getSnapshot();
+        parent = published.state(); //! What bots and saves see; forks of it must leave it alone
+    }
+
+    @Test
+    void buyingInAForkLeavesTheParentAlone() {
+        PropertyArrays before = new PropertyArrays(parent);
+        GameState fork = parent.fork();
+        GameState sibling = parent.fork();
+
+        int slot = fork.pendingSlot;
+        compact.buyProperty(fork);
+
+        assertEquals((byte) parent.currentPlayer, fork.owner[slot]);
+        before.assertUnchanged(parent);
+        before.assertUnchanged(sibling);
+        before.assertUnchanged(published);
+    }
+
+    @Test
+    void buildingInAForkLeavesTheParentAlone() {
+        int slot = publishColorSet(parent.currentPlayer, 0);
+        PropertyArrays before = new PropertyArrays(parent);
+        GameState fork = parent.fork();
+        GameState grandchild = fork.fork();
+
+        for (int house = 0; house < 4; house++) {
+            for (int member : colorSet(slot)) {
+                assertTrue(compact.canBuildHouse(fork, member));
+                compact.buildHouse(fork, member);
+            }
+        }
+        assertTrue(compact.canBuildHotel(fork, slot));
+        compact.buildHotel(fork, slot);
+        assertEquals(4, fork.houses[slot]);
+        assertTrue(fork.hotel[slot]);
+
+        before.assertUnchanged(parent);
+        before.assertUnchanged(grandchild);
+        before.assertUnchanged(published);
+    }
+
+    @Test
+    void hotelInAForkLeavesTheParentAlone() {
+        int slot = publishColorSet(parent.currentPlayer, 4);
+        PropertyArrays before = new PropertyArrays(parent);
+        GameState fork = parent.fork();
+
+        assertTrue(compact.canBuildHotel(fork, slot));
+        compact.buildHotel(fork, slot);
+
+        assertTrue(fork.hotel[slot]);
+        before.assertUnchanged(parent);
+        before.assertUnchanged(published);
+    }
+
+    @Test
+    void bankruptcyInAForkLeavesTheParentAlone() {
+        int player = parent.currentPlayer;
+        int slot = publishColorSet(player, 2);
+        PropertyArrays before = new PropertyArrays(parent);
+        GameState fork = parent.fork();
+
+        //! The owner of a built-up color set goes broke in a fork of a fork
+        PropertyArrays built = new PropertyArrays(fork);
+        GameState broke = fork.fork();
+        broke.currentPlayer = player;
+        broke.pendingSlot = -1;
+        broke.inJail[player] = true;
+        broke.cash[player] = 0;
+        compact.rollDice(broke); //! Can't pay the jail fee
+
+        assertTrue(broke.bankrupt[player]);
+        assertEquals(GameState.UNOWNED, broke.owner[slot]);
+        assertEquals(0, broke.houses[slot]);
+        assertEquals(2, parent.houses[slot]);
+        built.assertUnchanged(fork);
+        before.assertUnchanged(parent);
+        before.assertUnchanged(published);
+    }
+
+    @Test
+    void writingToTheParentLeavesItsForksAlone() {
+        GameState parentCopy = parent.copy(); //! Never write to a published snapshot's state itself
+        GameState fork = parentCopy.fork();
+        PropertyArrays before = new PropertyArrays(fork);
+
+        compact.buyProperty(parentCopy);
+        giveColorSet(parentCopy, parentCopy.currentPlayer);
+
+        before.assertUnchanged(fork);
+        before.assertUnchanged(published);
+    }
+
+    @Test
+    void publishedSnapshotsDontSeeLaterMoves() {
+        PropertyArrays before = new PropertyArrays(parent);
+        GameState expected = engine.toState();
+        int slot = engine.getPendingProperty().getSlot();
+
+        engine.buyProperty();
+        assertEquals(expected.currentPlayer, engine.getSnapshot().getOwner(slot));
+        TestGames.play(engine, 200); //! Buys, builds and, with luck, bankruptcies on the live game
+
+        assertEquals(GameState.UNOWNED, published.getOwner(slot));
+        assertNotEquals(published.getVersion(), engine.getSnapshot().getVersion());
+        before.assertUnchanged(parent);
+        before.assertUnchanged(published);
+        TestGames.assertSameState(expected, published.toState());
+    }
+
+    //! Gives the live game's `player` a color set with `houses` on each, publishes it and forks from that snapshot,
+    //! so the forks' first property write is the build or bankruptcy under test
+    private int publishColorSet(int player, int houses) {
+        GameState setup = parent.copy();
+        int slot = giveColorSet(setup, player);
+        for (int house = 0; house < houses; house++) {
+            for (int member : colorSet(slot)) {
+                compact.buildHouse(setup, member);
+            }
+        }
+        engine.applyState(setup);
+        published = engine.getSnapshot();
+        parent = published.state();
+        assertEquals(houses, published.getHouses(slot));
+        return slot;
+    }
+
+    //! Hands `player` every property of some color set (buying each through the engine), returns one of its slots
+    private int giveColorSet(GameState state, int player) {
+        BoardTemplate template = engine.getRules().template;
+        int set = template.getProperty(0).colorSetId;
+        for (int slot = 0; slot < state.propertyCount; slot++) {
+            if (template.getProperty(slot).housePrice > 0) {
+                set = template.getProperty(slot).colorSetId;
+                break;
+            }
+        }
+
+        state.cash[player] = 1_000_000;
+        int slot = -1;
+        for (int i = 0; i < template.getColorSetSize(set); i++) {
+            slot = template.getColorSetSlot(set, i);
+            if (state.owner[slot] == player) continue;
+            state.currentPlayer = player;
+            state.pendingSlot = slot;
+            state.lastDice1 = 1;
+            state.lastDice2 = 1; //! Doubles, so the turn stays with `player`
+            compact.buyProperty(state);
+        }
+        return slot;
+    }
+
+    private int[] colorSet(int slot) {
+        BoardTemplate template = engine.getRules().template;
+        int set = template.getProperty(slot).colorSetId;
+        int[] slots = new int[template.getColorSetSize(set)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = template.getColorSetSlot(set, i);
+        }
+        return slots;
+    }
+
+    private static int countOwned(GameState state) {
+        int owned = 0;
+        for (byte owner : state.owner) {
+            if (owner != GameState.UNOWNED) owned++;
+        }
+        return owned;
+    }
+
+    //? Copies of a state's property arrays, to compare against later.
+    private static final class PropertyArrays {
+        final byte[] owner;
+        final byte[] houses;
+        final boolean[] hotel;
+
+        PropertyArrays(GameState state) {
+            owner = state.owner.clone();
+            houses = state.houses.clone();
+            hotel = state.hotel.clone();
+        }
+
+        void assertUnchanged(GameState state) {
+            assertArrayEquals(owner, state.owner, "owner");
+            assertArrayEquals(houses, state.houses, "houses");
+            assertArrayEquals(hotel, state.hotel, "hotel");
+        }
+
+        void assertUnchanged(GameSnapshot snapshot) {
+            for (int slot = 0; slot < owner.length; slot++) {
+                assertEquals(owner[slot], snapshot.getOwner(slot), "owner of slot " + slot);
+                assertEquals(houses[slot], snapshot.getHouses(slot), "houses on slot " + slot);
+                assertEquals(hotel[slot], snapshot.hasHotel(slot), "hotel on slot " + slot);
+            }
+        }
+    }
+}
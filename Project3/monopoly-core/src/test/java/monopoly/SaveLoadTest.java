@@ -0,0 +1,215 @@
+package monopoly;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SaveLoadTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void binaryRoundTripKeepsTheGameAndItsDice() throws IOException {
+        for (String ruleSet : Rules.Available()) {
+            GameEngine original = TestGames.newGame(42, ruleSet, 3);
+            TestGames.play(original, 300);
+
+            Path file = dir.resolve(ruleSet + SaveLoad.BINARY_EXTENSION);
+            assertTrue(SaveLoad.SaveBinary(file, original));
+            GameEngine loaded = new GameEngine();
+            assertTrue(SaveLoad.LoadBinary(file, loaded));
+
+            assertSame(original.getRules(), loaded.getRules());
+            TestGames.assertSameState(original.toState(), loaded.toState());
+
+            //! The RNG state is saved too, so both games keep rolling the same dice
+            for (int turn = 0; turn < 300 && !original.isGameOver(); turn++) {
+                TestGames.step(original, turn);
+                TestGames.step(loaded, turn);
+                TestGames.assertSameState(original.toState(), loaded.toState());
+            }
+        }
+    }
+
+    @Test
+    void pendingDecisionSurvivesARoundTrip() throws IOException {
+        GameEngine original = TestGames.newGame(7, "classic", 2);
+        while (!original.isWaitingForPropertyDecision()) {
+            original.rollDice();
+        }
+
+        GameEngine loaded = new GameEngine();
+        SaveLoad.Decode(SaveLoad.Encode(original), loaded);
+
+        assertTrue(loaded.isWaitingForPropertyDecision());
+        assertEquals(original.getPendingProperty().getSlot(), loaded.getPendingProperty().getSlot());
+    }
+
+    @Test
+    void checksumMismatchIsRejected() throws IOException {
+        ByteBuffer encoded = SaveLoad.Encode(TestGames.newGame(1, "classic", 2));
+        encoded.put(20, (byte) (encoded.get(20) ^ 1));
+
+        IOException error = assertThrows(IOException.class, () -> SaveLoad.Decode(encoded, new GameEngine()));
+        assertEquals("Save file checksum mismatch", error.getMessage());
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws IOException {
+        GameEngine engine = TestGames.newGame(1, "classic", 2);
+        ByteBuffer encoded = SaveLoad.Encode(engine);
+        Path file = dir.resolve("short.sav");
+        Files.write(file, Arrays.copyOf(encoded.array(), encoded.limit() / 2));
+
+        GameEngine loaded = new GameEngine();
+        assertFalse(SaveLoad.LoadBinary(file, loaded));
+        assertNull(loaded.getBoard());
+    }
+
+    @Test
+    void outOfRangeFieldsAreRejectedBeforeRestore() throws IOException {
+        GameEngine engine = TestGames.newGame(3, "classic", 2);
+        ByteBuffer encoded = SaveLoad.Encode(engine);
+        Layout layout = new Layout(engine);
+        int lastSlot = engine.getBoard().getPropertyCount() - 1;
+
+        assertRejected(corrupt(encoded, layout.owner(lastSlot), (byte) 2), "Bad owner 2 for property " + lastSlot);
+        assertRejected(corrupt(encoded, layout.owner(0), (byte) -2), "Bad owner -2 for property 0");
+        assertRejected(corrupt(encoded, layout.houses(0), (byte) 5), "Bad house count 5 for property 0");
+        assertRejected(corrupt(encoded, layout.houses(0), (byte) -1), "Bad house count -1 for property 0");
+        assertRejected(corruptInt(encoded, layout.pendingSlot, lastSlot + 1), "Bad pending property " + (lastSlot + 1));
+        assertRejected(corruptInt(encoded, layout.position(1), engine.getRules().getBoardSize()), "Bad position 40 for player 1");
+        assertRejected(corruptInt(encoded, layout.position(0), -1), "Bad position -1 for player 0");
+
+        //! The largest legal values still load
+        GameEngine loaded = new GameEngine();
+        SaveLoad.Decode(corrupt(corrupt(encoded, layout.owner(lastSlot), (byte) 1), layout.houses(lastSlot), (byte) 4), loaded);
+        Property last = loaded.getBoard().getPropertyInSlot(lastSlot);
+        assertSame(loaded.getPlayers().get(1), last.owner);
+        assertEquals(4, last.houses);
+    }
+
+    @Test
+    void legacyTextSaveLoads() throws IOException {
+        TestGames.savedata();
+        TestGames.deleteSave("legacy");
+        //! The format the game wrote before binary saves (savedata/save1.txt in the repo is one)
+        Files.write(TestGames.savedata().resolve("legacy.txt"), Arrays.asList(
+                "1",
+                "2",
+                "Ann|2135|10|false|1|false",
+                "Bob|1700|5|true|0|false",
+                "1:0,3:-1,5:1,7:-1,9:-1,11:-1,13:-1,15:-1"), StandardCharsets.UTF_8);
+
+        GameEngine engine = new GameEngine();
+        assertTrue(engine.loadGame("legacy"));
+
+        List<Player> players = engine.getPlayers();
+        assertEquals(2, players.size());
+        assertEquals("Ann", players.get(0).name);
+        assertEquals(2135, players.get(0).cash);
+        assertEquals(10, players.get(0).position);
+        assertEquals(1, players.get(0).consecutiveDoubles);
+        assertTrue(players.get(1).inJail);
+        assertSame(players.get(1), engine.getCurrentPlayer());
+        assertSame(players.get(0), engine.getBoard().getProperty(1).owner);
+        assertSame(players.get(1), engine.getBoard().getProperty(5).owner);
+        assertNull(engine.getBoard().getProperty(3).owner);
+
+        //! And it round-trips through the text writer
+        assertTrue(SaveLoad.Save("legacy", engine.getBoard(), players, engine.getCurrentPlayerIndex()));
+        GameEngine again = new GameEngine();
+        assertTrue(again.loadGame("legacy"));
+        GameState reloaded = again.toState();
+        reloaded.reseed(engine.getRandom()); //! Text saves have no RNG state, each load starts fresh dice
+        TestGames.assertSameState(engine.toState(), reloaded);
+        TestGames.deleteSave("legacy");
+    }
+
+    @Test
+    void brokenTextSaveFails() throws IOException {
+        TestGames.deleteSave("broken");
+        Files.write(TestGames.savedata().resolve("broken.txt"), Arrays.asList("0", "2", "Ann|2135|10|false|1|false"), StandardCharsets.UTF_8);
+
+        assertFalse(new GameEngine().loadGame("broken"));
+        TestGames.deleteSave("broken");
+    }
+
+    private static void assertRejected(ByteBuffer encoded, String message) {
+        IOException error = assertThrows(IOException.class, () -> SaveLoad.Decode(encoded, new GameEngine()));
+        assertEquals(message, error.getMessage());
+    }
+
+    //! A copy with one byte changed and the CRC32C trailer fixed up, so only the field checks can catch it
+    private static ByteBuffer corrupt(ByteBuffer encoded, int offset, byte value) {
+        ByteBuffer copy = copyOf(encoded);
+        copy.put(offset, value);
+        return resign(copy);
+    }
+
+    private static ByteBuffer corruptInt(ByteBuffer encoded, int offset, int value) {
+        ByteBuffer copy = copyOf(encoded);
+        copy.putInt(offset, value);
+        return resign(copy);
+    }
+
+    private static ByteBuffer copyOf(ByteBuffer encoded) {
+        return ByteBuffer.wrap(Arrays.copyOf(encoded.array(), encoded.limit()));
+    }
+
+    private static ByteBuffer resign(ByteBuffer buffer) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.limit() - 4);
+        buffer.putInt(buffer.limit() - 4, (int) crc.getValue());
+        return buffer;
+    }
+
+    //? Field offsets in a v3 .sav (see SaveLoad.Encode).
+    private static final class Layout {
+        final int pendingSlot;
+        final int[] positions;
+        final int properties;
+
+        Layout(GameEngine engine) {
+            int offset = 4 + 2 + 2 + 2 + engine.getRules().name.getBytes(StandardCharsets.UTF_8).length + 7 * 4 + 4 + 1 + 1;
+            pendingSlot = offset;
+            offset += 4 + 8 + 8 + 4;
+
+            List<Player> players = engine.getPlayers();
+            positions = new int[players.size()];
+            for (int i = 0; i < players.size(); i++) {
+                offset += 2 + players.get(i).name.getBytes(StandardCharsets.UTF_8).length + 4;
+                positions[i] = offset;
+                offset += 4 + 1 + 1;
+            }
+            properties = offset + 4;
+        }
+
+        int position(int seat) {
+            return positions[seat];
+        }
+
+        int owner(int slot) {
+            return properties + slot * 3;
+        }
+
+        int houses(int slot) {
+            return properties + slot * 3 + 1;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package monopoly;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//? Shared helpers: seeded games played by a fixed, simple policy, and state comparison.
+final class TestGames {
+    private TestGames() {
+    }
+
+    static GameEngine newGame(long seed, String ruleSet, int players) throws IOException {
+        GameEngine engine = new GameEngine(new GameRandom(seed));
+        String[] names = new String[players];
+        for (int i = 0; i < players; i++) {
+            names[i] = "P" + (i + 1);
+        }
+        engine.newGame(Arrays.asList(names), Rules.Get(ruleSet));
+        return engine;
+    }
+
+    //? One step of the policy: answer a pending decision (buy two in three), otherwise build what's allowed and roll.
+    static void step(GameEngine engine, int turn) {
+        if (engine.isWaitingForPropertyDecision()) {
+            if (turn % 3 != 0) {
+                engine.buyProperty();
+            } else {
+                engine.declineProperty();
+            }
+            return;
+        }
+
+        Board board = engine.getBoard();
+        for (int slot = 0; slot < board.getPropertyCount(); slot++) {
+            Property property = board.getPropertyInSlot(slot);
+            if (property.owner != engine.getCurrentPlayer()) continue;
+            if (engine.canBuildHotel(property)) {
+                engine.buildHotel(property);
+            } else if (engine.canBuildHouse(property)) {
+                engine.buildHouse(property);
+            }
+        }
+        engine.rollDice();
+    }
+
+    static void play(GameEngine engine, int steps) {
+        for (int turn = 0; turn < steps && !engine.isGameOver(); turn++) {
+            step(engine, turn);
+        }
+    }
+
+    static void assertSameState(GameState expected, GameState actual) {
+        assertArrayEquals(expected.cash, actual.cash, "cash");
+        assertArrayEquals(expected.position, actual.position, "position");
+        assertArrayEquals(expected.consecutiveDoubles, actual.consecutiveDoubles, "doubles");
+        assertArrayEquals(expected.inJail, actual.inJail, "in jail");
+        assertArrayEquals(expected.bankrupt, actual.bankrupt, "bankrupt");
+        assertArrayEquals(expected.owner, actual.owner, "owner");
+        assertArrayEquals(expected.houses, actual.houses, "houses");
+        assertArrayEquals(expected.hotel, actual.hotel, "hotel");
+        assertEquals(expected.currentPlayer, actual.currentPlayer, "current player");
+        assertEquals(expected.pendingSlot, actual.pendingSlot, "pending slot");
+        assertEquals(expected.rngSeed, actual.rngSeed, "rng seed");
+        assertEquals(expected.rngGamma, actual.rngGamma, "rng gamma");
+    }
+
+    //? Removes savedata/<name>.* left by an earlier run (tests share the working directory's savedata).
+    static void deleteSave(String name) throws IOException {
+        for (String extension : new String[]{SaveLoad.BINARY_EXTENSION, SaveLoad.TEXT_EXTENSION, TurnJournal.EXTENSION}) {
+            Files.deleteIfExists(Paths.get("savedata", name + extension));
+        }
+    }
+
+    static Path savedata() throws IOException {
+        return Files.createDirectories(Paths.get("savedata"));
+    }
+}
@@ -0,0 +1,225 @@
+package monopoly;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TurnJournalTest {
+    private static final String GAME = "journal-test";
+    private static final String CUT = "journal-test-cut";
+    private static final int HEADER_SIZE = 12;
+
+    @BeforeEach
+    @AfterEach
+    void clean() throws IOException {
+        TestGames.deleteSave(GAME);
+        TestGames.deleteSave(CUT);
+        deleteTree(TestGames.savedata().resolve("failing"));
+    }
+
+    @Test
+    void startRefusesToOverwriteAnExistingSave() throws IOException {
+        GameEngine engine = TestGames.newGame(1, "classic", 2);
+        TurnJournal.start(GAME, engine).close();
+
+        IOException error = assertThrows(IOException.class, () -> TurnJournal.start(GAME, engine));
+        assertTrue(error.getMessage().startsWith("Save already exists"));
+        TurnJournal.replace(GAME, engine).close();
+    }
+
+    @Test
+    void recoverReturnsTheLastCommittedStateWhereverTheFileIsCut() throws IOException {
+        GameEngine engine = TestGames.newGame(5, "classic", 3);
+        TurnJournal journal = TurnJournal.start(GAME, engine, 0, 0, false);
+        Path journalPath = TurnJournal.JournalPath(GAME);
+
+        //! After each flush the file ends on a batch boundary: remember its length and the game at that point
+        List<Long> lengths = new ArrayList<>();
+        List<GameState> states = new ArrayList<>();
+        lengths.add(Files.size(journalPath));
+        states.add(engine.toState());
+        for (int turn = 0; turn < 120 && !engine.isGameOver(); turn++) {
+            TestGames.step(engine, turn);
+            journal.flush();
+            if (Files.size(journalPath) == lengths.get(lengths.size() - 1)) continue;
+            lengths.add(Files.size(journalPath));
+            states.add(engine.toState());
+        }
+        journal.close();
+        assertTrue(lengths.size() > 50, "expected a batch per step");
+
+        byte[] full = Files.readAllBytes(journalPath);
+        for (int i = 0; i < lengths.size(); i++) {
+            long boundary = lengths.get(i);
+            //! On the boundary, then torn inside the next batch's header and inside its first record
+            for (long cut : new long[]{boundary, boundary + 1, boundary + 7, boundary + 9}) {
+                if (cut > full.length) continue;
+                GameEngine recovered = recoverCut(full, (int) cut);
+                TestGames.assertSameState(states.get(i), recovered.toState());
+            }
+        }
+
+        //! Cut inside the journal header: the snapshot alone
+        GameEngine headerOnly = new GameEngine();
+        Files.copy(SaveLoad.BinaryPath(GAME), SaveLoad.BinaryPath(CUT), StandardCopyOption.REPLACE_EXISTING);
+        Files.write(TurnJournal.JournalPath(CUT), Arrays.copyOf(full, HEADER_SIZE - 2));
+        assertEquals(0, TurnJournal.recover(CUT, headerOnly));
+        TestGames.assertSameState(states.get(0), headerOnly.toState());
+    }
+
+    @Test
+    void corruptBatchStopsRecoveryBeforeIt() throws IOException {
+        GameEngine engine = TestGames.newGame(6, "classic", 2);
+        TurnJournal journal = TurnJournal.start(GAME, engine, 0, 0, false);
+        TestGames.play(engine, 10);
+        journal.flush();
+        long goodLength = Files.size(TurnJournal.JournalPath(GAME));
+        GameState good = engine.toState();
+        long goodRecords = journal.getRecordCount();
+
+        TestGames.play(engine, 10);
+        journal.close();
+
+        byte[] bytes = Files.readAllBytes(TurnJournal.JournalPath(GAME));
+        bytes[(int) goodLength + 8] ^= 1; //! First record of the next batch
+        Files.write(TurnJournal.JournalPath(GAME), bytes);
+
+        GameEngine recovered = new GameEngine();
+        assertEquals(goodRecords, TurnJournal.recover(GAME, recovered));
+        TestGames.assertSameState(good, recovered.toState());
+    }
+
+    @Test
+    void journalForADifferentSnapshotIsIgnored() throws IOException {
+        GameEngine engine = TestGames.newGame(7, "classic", 2);
+        TurnJournal journal = TurnJournal.start(GAME, engine, 0, 0, false);
+        GameState start = engine.toState();
+        TestGames.play(engine, 20);
+        journal.close();
+        assertTrue(journal.getRecordCount() > 0);
+
+        Path journalPath = TurnJournal.JournalPath(GAME);
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        bytes.putInt(8, bytes.getInt(8) + 1); //! Base snapshot CRC
+        Files.write(journalPath, bytes.array());
+
+        GameEngine recovered = new GameEngine();
+        assertEquals(0, TurnJournal.recover(GAME, recovered));
+        TestGames.assertSameState(start, recovered.toState());
+    }
+
+    @Test
+    void replayAfterCompactionMatchesTheLiveGame() throws IOException {
+        for (boolean snapshots : new boolean[]{false, true}) {
+            clean();
+            GameEngine engine = TestGames.newGame(8, "classic", 3);
+            engine.setSnapshotsEnabled(snapshots); //! Compaction then captures the published snapshot
+            int startChecksum = SaveLoad.Checksum(SaveLoad.Encode(engine));
+            TurnJournal journal = TurnJournal.start(GAME, engine, 0, 10, false);
+
+            for (int turn = 0; turn < 400 && !engine.isGameOver(); turn++) {
+                TestGames.step(engine, turn);
+                if (turn % 7 == 0) journal.flush(); //! Compactions land both inside and between batches
+            }
+            journal.close();
+
+            assertNotEquals(startChecksum, SaveLoad.Checksum(SaveLoad.BinaryPath(GAME)), "snapshot never rotated");
+            GameEngine recovered = new GameEngine();
+            long replayed = TurnJournal.recover(GAME, recovered);
+            assertTrue(replayed < 10, "journal should only hold records since the last compaction, had " + replayed);
+            TestGames.assertSameState(engine.toState(), recovered.toState());
+
+            //! And the recovered game keeps going exactly like the original
+            for (int turn = 0; turn < 100 && !engine.isGameOver(); turn++) {
+                TestGames.step(engine, turn);
+                TestGames.step(recovered, turn);
+            }
+            TestGames.assertSameState(engine.toState(), recovered.toState());
+        }
+    }
+
+    @Test
+    void writeFailureStopsBufferingAndIsReported() throws IOException, InterruptedException {
+        GameEngine engine = TestGames.newGame(9, "classic", 2);
+        TurnJournal journal = TurnJournal.start("failing/game", engine, 0, 5, false);
+        AtomicReference<IOException> reported = new AtomicReference<>();
+        CountDownLatch told = new CountDownLatch(1);
+        journal.setOnFailure(error -> {
+            reported.set(error);
+            told.countDown();
+        });
+
+        //! The next compaction can't write its snapshot: the directory is now a file
+        Path directory = TestGames.savedata().resolve("failing");
+        deleteTree(directory);
+        Files.write(directory, new byte[]{1});
+
+        IOException flushError = null;
+        for (int turn = 0; turn < 200 && flushError == null; turn++) {
+            TestGames.step(engine, turn);
+            try {
+                journal.flush();
+            } catch (IOException e) {
+                flushError = e;
+            }
+        }
+
+        assertNotNull(flushError, "journal never failed");
+        assertSame(flushError, journal.getFailure());
+        assertTrue(told.await(5, TimeUnit.SECONDS), "failure handler never ran"); //! It runs on the commit thread
+        assertSame(flushError, reported.get());
+
+        //! Nothing is buffered once it has failed
+        long records = journal.getRecordCount();
+        TestGames.play(engine, 50);
+        assertEquals(records, journal.getRecordCount());
+
+        //! A late handler still hears about it
+        AtomicReference<IOException> late = new AtomicReference<>();
+        journal.setOnFailure(late::set);
+        assertSame(flushError, late.get());
+
+        //! close() reports the failure but still shuts the journal down
+        assertThrows(IOException.class, journal::close);
+        TestGames.play(engine, 10);
+        assertEquals(records, journal.getRecordCount());
+    }
+
+    private static GameEngine recoverCut(byte[] journal, int length) throws IOException {
+        Files.copy(SaveLoad.BinaryPath(GAME), SaveLoad.BinaryPath(CUT), StandardCopyOption.REPLACE_EXISTING);
+        Files.write(TurnJournal.JournalPath(CUT), Arrays.copyOf(journal, length));
+        GameEngine engine = new GameEngine();
+        assertTrue(TurnJournal.recover(CUT, engine) >= 0);
+        return engine;
+    }
+
+    private static void deleteTree(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (java.util.stream.Stream<Path> children = Files.list(path)) {
+                for (Path child : (Iterable<Path>) children::iterator) {
+                    deleteTree(child);
+                }
+            }
+        }
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,8 @@
+module monopoly.ui {
+    requires monopoly.core;
+    requires javafx.controls;
+    requires javafx.fxml;
+    
+    opens monopoly.ui to javafx.fxml;
+    exports monopoly.ui;
+}
@@ -0,0 +1,762 @@
+package monopoly.ui;
+
+import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.util.Duration;
+import monopoly.Board;
+import monopoly.GameEngine;
+import monopoly.GameEvent;
+import monopoly.GameEventStream;
+import monopoly.GameReplay;
+import monopoly.GameState;
+import monopoly.Player;
+import monopoly.PlayerStrategy;
+import monopoly.Property;
+import monopoly.Rules;
+import monopoly.SaveLoad;
+import monopoly.StrategyRunner;
+import monopoly.TurnJournal;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+public class GameController {
+    @FXML private GridPane boardGrid;
+    @FXML private VBox playerInfoBox;
+    @FXML private ListView<String> messageList;
+    @FXML private Button rollDiceButton;
+    @FXML private Button buyButton;
+    @FXML private Button declineButton;
+    @FXML private Button saveButton;
+    @FXML private Button buildButton;
+    @FXML private Button exitButton;
+    @FXML private Label dice1Label;
+    @FXML private Label dice2Label;
+    @FXML private HBox replayBar;
+    @FXML private Button pauseButton;
+    @FXML private Slider speedSlider;
+    @FXML private Label speedLabel;
+    
+    private GameEngine engine;
+    private GameEventStream.Subscription eventSubscription;
+    private GameLogList log;
+    private boolean winnerLogged = false;
+    
+    //! Spectator mode: the recording plays on its own thread, frames pull at most one state per pulse
+    private GameReplay replay;
+    private AnimationTimer replayTimer;
+    
+    //! Hot-seat bots, one entry per seat (null = human). A bot thinks on StrategyRunner's thread over a fork of
+    //! the game; only its answer comes back to the FX thread, so the screen never waits on it
+    private PlayerStrategy[] strategies = new PlayerStrategy[0];
+    private boolean botThinking = false;
+    private boolean closed = false;
+    private PauseTransition botPause;
+    private static final Duration BOT_STEP_DELAY = Duration.millis(Long.getLong("monopoly.bot.delay", 400));
+    
+    //! Nodes are built once per game screen; updates only touch what changed since the last render
+    private SpaceView[] spaceViews = new SpaceView[0];
+    private PlayerView[] playerViews = new PlayerView[0];
+    private static final Color[] PLAYER_COLORS = {Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW};
+    
+    //! Set by model listeners, cleared after each render: only dirty players/tiles get looked at
+    private boolean[] playerDirty = new boolean[0];
+    private boolean[] spaceDirty = new boolean[0];
+    private boolean ownershipDirty = true;
+    private int renderedCurrentIndex = -1;
+    
+    //? One board tile plus the last values it was rendered with.
+    private static class SpaceView {
+        final StackPane pane;
+        final HBox markers;
+        final Label houseLabel;
+        final Label hotelLabel;
+        int renderedHouses = 0;
+        boolean renderedHotel = false;
+        
+        SpaceView(StackPane pane, HBox markers, Label houseLabel, Label hotelLabel) {
+            this.pane = pane;
+            this.markers = markers;
+            this.houseLabel = houseLabel;
+            this.hotelLabel = hotelLabel;
+        }
+    }
+    
+    //? One player's card in the side panel, their board marker, and what was last shown.
+    private static class PlayerView {
+        final VBox box = new VBox(5);
+        final Label nameLabel = new Label();
+        final Label cashLabel = new Label();
+        final Label posLabel = new Label();
+        final Label jailLabel = new Label("IN JAIL");
+        final Label bankruptLabel = new Label("BANKRUPT");
+        final Label propsLabel = new Label();
+        final Circle marker;
+        
+        boolean rendered = false;
+        boolean renderedCurrent;
+        int renderedCash;
+        int renderedPosition;  //! Tile the marker sits on
+        int renderedSpaceName; //! Position shown in posLabel
+        boolean renderedJail;
+        boolean renderedBankrupt;
+        int renderedProps;
+        
+        PlayerView(Color color) {
+            marker = new Circle(6, color);
+            marker.setStroke(Color.BLACK);
+        }
+    }
+    
+    public void setGameEngine(GameEngine engine) {
+        this.engine = engine;
+        
+        //! Saves and bots read the published snapshot instead of copying the live game
+        engine.setSnapshotsEnabled(true);
+        
+        GameEventStream events = new GameEventStream();
+        engine.setEventStream(events);
+        eventSubscription = events.subscribe(this::onGameEvent);
+        
+        //! -Dmonopoly.log.spill=<file> keeps lines that scroll out of the bounded log
+        String spillFile = System.getProperty("monopoly.log.spill");
+        log = spillFile == null
+                ? new GameLogList(GameLogList.DEFAULT_CAPACITY)
+                : new GameLogList(GameLogList.DEFAULT_CAPACITY, Paths.get(spillFile));
+        messageList.setItems(log);
+        watchJournal(engine.getJournal());
+        
+        initializeBoard();
+        updateDisplay();
+    }
+    
+    //? A journal that can't write stops recording; say so once instead of letting the game silently go unsaved.
+    private void watchJournal(TurnJournal journal) {
+        if (journal == null) return;
+        journal.setOnFailure(error -> Platform.runLater(() -> {
+            if (closed || engine.getJournal() != journal) return;
+            log.append("*** Journal stopped: " + error.getMessage() + " ***");
+            showAlert("Journal stopped, this game is no longer being saved: " + error.getMessage(), Alert.AlertType.ERROR);
+        }));
+    }
+    
+    //? Seats with a strategy are played by it; the rest stay human. Call after setGameEngine.
+    public void setStrategies(PlayerStrategy[] strategies) {
+        this.strategies = strategies.clone();
+        updateDisplay();
+    }
+    
+    //? Watches a recording instead of playing: `view` is the engine the screen renders (see GameReplay.createViewEngine).
+    public void setReplay(GameReplay replay, GameEngine view) {
+        this.replay = replay;
+        setGameEngine(view);
+        
+        setShown(replayBar, true);
+        speedSlider.valueProperty().addListener((obs, old, value) -> {
+            double speed = Math.pow(10, value.doubleValue()); //! Slider is log10 of the speed: 1x..1000x
+            replay.setSpeed(speed);
+            speedLabel.setText(Math.round(replay.getSpeed()) + "x");
+        });
+        
+        replayTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                renderReplayFrame();
+            }
+        };
+        replayTimer.start();
+        replay.start();
+        updateButtons();
+    }
+    
+    //? One pulse: apply whatever the newest recorded state is (if any) and render only what changed.
+    private void renderReplayFrame() {
+        boolean finished = replay.isFinished(); //! Read before poll so the final state can't be missed
+        GameState state = replay.poll();
+        int lines = replay.drainLines(log::append);
+        
+        if (state != null) {
+            engine.applyState(state);
+            updateDisplay();
+        }
+        if (lines > 0) {
+            messageList.scrollTo(log.size() - 1);
+        }
+        
+        if (finished) {
+            replayTimer.stop();
+            pauseButton.setDisable(true);
+            log.append("*** End of recording ***");
+            messageList.scrollTo(log.size() - 1);
+        }
+    }
+    
+    @FXML
+    private void onPauseReplay() {
+        replay.setPaused(!replay.isPaused());
+        pauseButton.setText(replay.isPaused() ? "Resume" : "Pause");
+    }
+    
+    private void initializeBoard() {
+        boardGrid.getChildren().clear();
+        
+        Rules rules = engine.getRules();
+        int size = rules.spaces.size();
+        int side = (int) Math.ceil(Math.sqrt(size));
+        int rows = (size + side - 1) / side;
+        spaceViews = new SpaceView[size];
+        
+        //! Tiles shrink on bigger boards (e.g. the 40-space classic rule set) so the grid still fits the window
+        double tileWidth = Math.min(140, 840.0 / side);
+        double tileHeight = Math.min(100, 620.0 / rows);
+        
+        for (int i = 0; i < size; i++) {
+            spaceViews[i] = createSpaceView(rules.spaces.get(i), tileWidth, tileHeight);
+            
+            int row = i / side;
+            int col = i % side;
+            boardGrid.add(spaceViews[i].pane, col, row);
+        }
+        
+        initializePlayerInfo();
+        bindModel();
+    }
+    
+    //? Hooks the model listeners up. Everything starts dirty so the first render fills every node.
+    private void bindModel() {
+        List<Player> players = engine.getPlayers();
+        playerDirty = new boolean[players.size()];
+        spaceDirty = new boolean[spaceViews.length];
+        Arrays.fill(playerDirty, true);
+        Arrays.fill(spaceDirty, true);
+        ownershipDirty = true;
+        
+        for (int i = 0; i < players.size(); i++) {
+            final int seat = i;
+            players.get(i).addListener(player -> playerDirty[seat] = true);
+        }
+        
+        Board board = engine.getBoard();
+        for (int slot = 0; slot < board.getPropertyCount(); slot++) {
+            board.getPropertyInSlot(slot).addListener(property -> {
+                spaceDirty[property.getIndex()] = true;
+                ownershipDirty = true;
+            });
+        }
+    }
+    
+    private void unbindModel() {
+        for (Player player : engine.getPlayers()) {
+            player.clearListeners();
+        }
+        Board board = engine.getBoard();
+        for (int slot = 0; slot < board.getPropertyCount(); slot++) {
+            board.getPropertyInSlot(slot).clearListeners();
+        }
+    }
+    
+    private SpaceView createSpaceView(Rules.BoardSpace space, double width, double height) {
+        StackPane pane = new StackPane();
+        pane.setPrefSize(width, height);
+        
+        VBox content = new VBox(5);
+        content.setAlignment(Pos.CENTER);
+        content.setPadding(new Insets(5));
+        
+        Label nameLabel = new Label(space.name);
+        nameLabel.setFont(Font.font("Arial", FontWeight.BOLD, 11));
+        nameLabel.setWrapText(true);
+        nameLabel.setMaxWidth(width - 10);
+        nameLabel.setAlignment(Pos.CENTER);
+        
+        String bgColor = getSpaceColor(space);
+        pane.setStyle("-fx-border-color: black; -fx-border-width: 2; -fx-background-color: " + bgColor + ";");
+        
+        content.getChildren().add(nameLabel);
+        
+        Label houseLabel = null;
+        Label hotelLabel = null;
+        
+        if (space.type == Rules.SpaceType.PROP && space.price != null) {
+            Label priceLabel = new Label("$" + space.price);
+            priceLabel.setFont(Font.font("Arial", 10));
+            content.getChildren().add(priceLabel);
+            
+            //! Created hidden; shown/hidden (and unmanaged so they take no space) as buildings change
+            houseLabel = new Label();
+            houseLabel.setFont(Font.font("Arial", FontWeight.BOLD, 9));
+            setShown(houseLabel, false);
+            
+            hotelLabel = new Label("HOTEL");
+            hotelLabel.setFont(Font.font("Arial", FontWeight.BOLD, 10));
+            hotelLabel.setTextFill(Color.RED);
+            setShown(hotelLabel, false);
+            
+            content.getChildren().addAll(houseLabel, hotelLabel);
+        } else if (space.type == Rules.SpaceType.TAX) {
+            Label taxLabel = new Label("Pay $" + space.price);
+            taxLabel.setFont(Font.font("Arial", 10));
+            content.getChildren().add(taxLabel);
+        }
+        
+        HBox playerMarkers = new HBox(3);
+        playerMarkers.setAlignment(Pos.CENTER);
+        content.getChildren().add(playerMarkers);
+        
+        pane.getChildren().add(content);
+        return new SpaceView(pane, playerMarkers, houseLabel, hotelLabel);
+    }
+    
+    private void initializePlayerInfo() {
+        playerInfoBox.getChildren().clear();
+        
+        Label title = new Label("PLAYERS");
+        title.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+        playerInfoBox.getChildren().add(title);
+        
+        List<Player> players = engine.getPlayers();
+        playerViews = new PlayerView[players.size()];
+        
+        for (int i = 0; i < players.size(); i++) {
+            PlayerView view = new PlayerView(PLAYER_COLORS[i % PLAYER_COLORS.length]);
+            view.box.setPadding(new Insets(10));
+            view.nameLabel.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+            view.jailLabel.setTextFill(Color.RED);
+            view.jailLabel.setFont(Font.font("Arial", FontWeight.BOLD, 12));
+            view.bankruptLabel.setTextFill(Color.DARKRED);
+            view.bankruptLabel.setFont(Font.font("Arial", FontWeight.BOLD, 12));
+            view.box.getChildren().addAll(view.nameLabel, view.cashLabel, view.posLabel, view.jailLabel, view.bankruptLabel, view.propsLabel);
+            
+            playerViews[i] = view;
+            playerInfoBox.getChildren().add(view.box);
+        }
+    }
+    
+    private static void setShown(Node node, boolean shown) {
+        node.setVisible(shown);
+        node.setManaged(shown);
+    }
+    
+    private String getSpaceColor(Rules.BoardSpace space) {
+        if (space.type == Rules.SpaceType.GO) return "#90EE90";
+        if (space.type == Rules.SpaceType.JAIL) return "#FFB6C1";
+        if (space.type == Rules.SpaceType.CHANCE) return "#FFA500";
+        if (space.type == Rules.SpaceType.COMMUNITY_CHEST) return "#87CEEB";
+        if (space.type == Rules.SpaceType.FREE) return "#F0E68C";
+        if (space.type == Rules.SpaceType.GO_TO_JAIL) return "#FFB6C1";
+        if (space.type == Rules.SpaceType.TAX) return "#D3D3D3";
+        if (space.colorSet != null) {
+            switch (space.colorSet) {
+                case "Brown": return "#8B4513";
+                case "LightBlue": return "#ADD8E6";
+                case "Pink": return "#FFC0CB";
+                case "Orange": return "#FFA500";
+                case "Red": return "#FF6347";
+                case "Yellow": return "#FFFF00";
+                case "Green": return "#90EE90";
+                case "Blue": return "#4169E1";
+                case "DarkBlue": return "#4169E1";
+                case "Railroad": return "#C0C0C0";
+                case "Utility": return "#E0FFFF";
+            }
+        }
+        return "#FFFFFF";
+    }
+    
+    private void updateDisplay() {
+        updatePlayerInfo();
+        updatePlayerPositions();
+        updateButtons();
+        updateMessage();
+        updateDice();
+        updateBoardProperties();
+        
+        Arrays.fill(playerDirty, false);
+        Arrays.fill(spaceDirty, false);
+        ownershipDirty = false;
+        renderedCurrentIndex = engine.getCurrentPlayerIndex();
+        
+        runBotTurn();
+    }
+    
+    private void updatePlayerInfo() {
+        List<Player> players = engine.getPlayers();
+        Player current = engine.getCurrentPlayer();
+        Board board = engine.getBoard();
+        
+        boolean turnChanged = renderedCurrentIndex != engine.getCurrentPlayerIndex();
+        
+        for (int i = 0; i < playerViews.length; i++) {
+            if (!playerDirty[i] && !ownershipDirty && !turnChanged) continue;
+            
+            Player player = players.get(i);
+            PlayerView view = playerViews[i];
+            boolean isCurrent = player == current;
+            int props = countPlayerProperties(player);
+            boolean first = !view.rendered;
+            
+            if (first || view.renderedCurrent != isCurrent) {
+                view.box.setStyle("-fx-border-color: " + (isCurrent ? "green" : "gray") +
+                                  "; -fx-border-width: 2; -fx-background-color: #f0f0f0;");
+                view.nameLabel.setText(player.name + (isCurrent ? " (Current)" : ""));
+                view.renderedCurrent = isCurrent;
+            }
+            if (first || view.renderedCash != player.cash) {
+                view.cashLabel.setText("Cash: $" + player.cash);
+                view.renderedCash = player.cash;
+            }
+            if (first || view.renderedSpaceName != player.position) {
+                view.posLabel.setText("Position: " + board.getSpaceName(player.position));
+                view.renderedSpaceName = player.position;
+            }
+            if (first || view.renderedJail != player.inJail) {
+                setShown(view.jailLabel, player.inJail);
+                view.renderedJail = player.inJail;
+            }
+            if (first || view.renderedBankrupt != player.isBankrupt) {
+                setShown(view.bankruptLabel, player.isBankrupt);
+                view.renderedBankrupt = player.isBankrupt;
+            }
+            if (first || view.renderedProps != props) {
+                view.propsLabel.setText("Properties: " + props);
+                view.renderedProps = props;
+            }
+            
+            view.rendered = true;
+        }
+    }
+    
+    private int countPlayerProperties(Player player) {
+        return engine.getBoard().countOwned(player);
+    }
+    
+    //! Moves an existing marker between tiles only when that player's position changed
+    private void updatePlayerPositions() {
+        List<Player> players = engine.getPlayers();
+        
+        for (int i = 0; i < playerViews.length; i++) {
+            if (!playerDirty[i]) continue;
+            
+            PlayerView view = playerViews[i];
+            int position = players.get(i).position;
+            
+            if (view.marker.getParent() != null && view.renderedPosition == position) continue;
+            
+            if (view.marker.getParent() != null) {
+                spaceViews[view.renderedPosition].markers.getChildren().remove(view.marker);
+            }
+            if (position >= 0 && position < spaceViews.length) {
+                spaceViews[position].markers.getChildren().add(view.marker);
+            }
+            view.renderedPosition = position;
+        }
+    }
+    
+    private void updateBoardProperties() {
+        Board board = engine.getBoard();
+        
+        for (int slot = 0; slot < board.getPropertyCount(); slot++) {
+            Property prop = board.getPropertyInSlot(slot);
+            if (!spaceDirty[prop.getIndex()]) continue;
+            
+            SpaceView view = spaceViews[prop.getIndex()];
+            if (view.houseLabel == null) continue;
+            
+            if (view.renderedHouses != prop.houses) {
+                view.houseLabel.setText("Houses: " + prop.houses);
+                setShown(view.houseLabel, prop.houses > 0);
+                view.renderedHouses = prop.houses;
+            }
+            if (view.renderedHotel != prop.hasHotel) {
+                setShown(view.hotelLabel, prop.hasHotel);
+                view.renderedHotel = prop.hasHotel;
+            }
+        }
+    }
+    
+    private void updateButtons() {
+        if (replay != null) {
+            for (Button button : new Button[]{rollDiceButton, buyButton, declineButton, buildButton, saveButton}) {
+                button.setDisable(true);
+            }
+            return;
+        }
+        
+        Player current = engine.getCurrentPlayer();
+        boolean humanTurn = currentBot() == null && !botThinking;
+        boolean canPlay = humanTurn && !current.isBankrupt && !engine.isGameOver();
+        
+        rollDiceButton.setDisable(!canPlay || engine.isWaitingForPropertyDecision());
+        buyButton.setDisable(!humanTurn || !engine.isWaitingForPropertyDecision());
+        declineButton.setDisable(!humanTurn || !engine.isWaitingForPropertyDecision());
+        buildButton.setDisable(!humanTurn || current.isBankrupt);
+    }
+    
+    private void updateMessage() {
+        int appended = eventSubscription.poll();
+        
+        if (engine.isGameOver() && !winnerLogged) {
+            Player winner = engine.getWinner();
+            if (winner != null) {
+                log.append("*** " + winner.name + " WINS! ***");
+                winnerLogged = true;
+                appended++;
+            }
+        }
+        
+        if (appended > 0) {
+            messageList.scrollTo(log.size() - 1);
+        }
+    }
+    
+    private void onGameEvent(GameEvent event) {
+        log.append(event.describe(engine.getBoard()));
+    }
+    
+    private void updateDice() {
+        int[] dice = engine.getLastDiceRoll();
+        dice1Label.setText(String.valueOf(dice[0]));
+        dice2Label.setText(String.valueOf(dice[1]));
+    }
+    
+    private PlayerStrategy currentBot() {
+        int seat = engine.getCurrentPlayerIndex();
+        return seat < strategies.length ? strategies[seat] : null;
+    }
+    
+    //? If it's a bot's turn, schedules its next step (build + roll, or a buy decision). Runs after every
+    //? render; botThinking keeps it to one step in flight.
+    private void runBotTurn() {
+        if (replay != null || closed || botThinking || engine.isGameOver() || engine.getCurrentPlayer().isBankrupt) return;
+        
+        PlayerStrategy bot = currentBot();
+        if (bot == null) return;
+        
+        botThinking = true;
+        updateButtons();
+        
+        //! Short pause first so people can follow what the bot does
+        botPause = new PauseTransition(BOT_STEP_DELAY);
+        botPause.setOnFinished(e -> stepBot(bot));
+        botPause.play();
+    }
+    
+    private void stepBot(PlayerStrategy bot) {
+        long budget = StrategyRunner.DefaultBudgetNanos();
+        
+        if (engine.isWaitingForPropertyDecision()) {
+            StrategyRunner.DecideBuy(bot, engine, budget).whenComplete((buy, error) -> Platform.runLater(() -> {
+                if (closed) return;
+                if (error != null) {
+                    System.out.println(bot.getName() + " failed, declining: " + error);
+                }
+                if (error == null && buy) {
+                    engine.buyProperty();
+                } else {
+                    engine.declineProperty();
+                }
+                finishBotStep();
+            }));
+        } else {
+            StrategyRunner.PlanBuilds(bot, engine, budget).whenComplete((plan, error) -> Platform.runLater(() -> {
+                if (closed) return;
+                if (error != null) {
+                    System.out.println(bot.getName() + " failed, not building: " + error);
+                } else {
+                    for (int slot : plan) {
+                        Property prop = engine.getBoard().getPropertyInSlot(slot);
+                        if (engine.canBuildHotel(prop)) {
+                            engine.buildHotel(prop);
+                        } else if (engine.canBuildHouse(prop)) {
+                            engine.buildHouse(prop);
+                        }
+                    }
+                }
+                engine.rollDice();
+                finishBotStep();
+            }));
+        }
+    }
+    
+    private void finishBotStep() {
+        botThinking = false;
+        updateDisplay();
+    }
+    
+    @FXML
+    private void onRollDice() {
+        engine.rollDice();
+        updateDisplay();
+    }
+    
+    @FXML
+    private void onBuy() {
+        engine.buyProperty();
+        updateDisplay();
+    }
+    
+    @FXML
+    private void onDecline() {
+        engine.declineProperty();
+        updateDisplay();
+    }
+    
+    @FXML
+    private void onSave() {
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Save Game");
+        dialog.setHeaderText("Enter save file name (no extension)");
+        dialog.setContentText("File name:");
+        
+        dialog.showAndWait().ifPresent(fileName -> {
+            TurnJournal journal = engine.getJournal();
+            boolean current = journal != null && journal.getSnapshotPath().equals(SaveLoad.BinaryPath(fileName));
+            if (journal != null && journal.isRecording() && current) {
+                showAlert("That name is the recording of this game; pick another.", Alert.AlertType.WARNING);
+                return;
+            }
+            if (!current && SaveLoad.HasBinary(fileName) && !confirmOverwrite(fileName)) {
+                return;
+            }
+            
+            //! A journaled game moves its journal to the new slot: the fresh snapshot is the save, and
+            //! everything after it keeps being journaled there. Recordings stay put and get a plain copy.
+            if (journal != null && !journal.isRecording()) {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    log.append("*** Old journal did not close cleanly: " + e.getMessage() + " ***");
+                }
+                try {
+                    watchJournal(TurnJournal.replace(fileName, engine));
+                    showAlert("Game saved successfully!", Alert.AlertType.INFORMATION);
+                } catch (IOException e) {
+                    engine.setJournal(null);
+                    showAlert("Failed to save game: " + e.getMessage(), Alert.AlertType.ERROR);
+                }
+                return;
+            }
+            
+            saveButton.setDisable(true);
+            
+            //! State is copied here on the FX thread; the write happens in the background and reports back via runLater
+            engine.saveGameAsync(fileName).whenComplete((saved, error) -> Platform.runLater(() -> {
+                saveButton.setDisable(false);
+                if (error == null && saved) {
+                    showAlert("Game saved successfully!", Alert.AlertType.INFORMATION);
+                } else {
+                    showAlert("Failed to save game!", Alert.AlertType.ERROR);
+                }
+            }));
+        });
+    }
+    
+    private boolean confirmOverwrite(String fileName) {
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setTitle("Save Game");
+        alert.setHeaderText("\"" + fileName + "\" already exists. Overwrite it?");
+        return alert.showAndWait().get() == ButtonType.OK;
+    }
+    
+    @FXML
+    private void onBuild() {
+        List<Property> ownedProps = getOwnedProperties(engine.getCurrentPlayer());
+        
+        if (ownedProps.isEmpty()) {
+            showAlert("You don't own any properties!", Alert.AlertType.WARNING);
+            return;
+        }
+        
+        ChoiceDialog<String> dialog = new ChoiceDialog<>();
+        dialog.setTitle("Build");
+        dialog.setHeaderText("Select a property to build on:");
+        
+        for (Property prop : ownedProps) {
+            String info = prop.getName() + " (Houses: " + prop.houses + 
+                         (prop.hasHotel ? ", Hotel" : "") + ")";
+            dialog.getItems().add(info);
+        }
+        
+        dialog.showAndWait().ifPresent(selection -> {
+            int index = dialog.getItems().indexOf(selection);
+            Property prop = ownedProps.get(index);
+            
+            if (engine.canBuildHotel(prop)) {
+                if (confirmBuild(prop, true)) {
+                    engine.buildHotel(prop);
+                    updateDisplay();
+                }
+            } else if (engine.canBuildHouse(prop)) {
+                if (confirmBuild(prop, false)) {
+                    engine.buildHouse(prop);
+                    updateDisplay();
+                }
+            } else {
+                showAlert("Cannot build on this property. Need to own all properties in color set.", Alert.AlertType.WARNING);
+            }
+        });
+    }
+    
+    private boolean confirmBuild(Property prop, boolean isHotel) {
+        String type = isHotel ? "hotel" : "house";
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setTitle("Confirm Build");
+        alert.setHeaderText("Build " + type + " on " + prop.getName() + "?");
+        alert.setContentText("Cost: $" + prop.getHousePrice());
+        return alert.showAndWait().get() == ButtonType.OK;
+    }
+    
+    private List<Property> getOwnedProperties(Player player) {
+        return engine.getBoard().getOwnedProperties(player);
+    }
+    
+    @FXML
+    private void onExit() {
+        closed = true;
+        if (botPause != null) {
+            botPause.stop();
+        }
+        if (replay != null) {
+            replayTimer.stop();
+            replay.stop();
+        }
+        TurnJournal journal = engine.getJournal();
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.out.println("Journal close failed: " + e.getMessage());
+            }
+        }
+        unbindModel();
+        log.close();
+        try {
+            Main.showStartMenu();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+    
+    private void showAlert(String message, Alert.AlertType type) {
+        Alert alert = new Alert(type);
+        alert.setTitle(type.toString());
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
+
+
@@ -0,0 +1,103 @@
+package monopoly.ui;
+
+import javafx.collections.ObservableListBase;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//? Fixed-capacity ring of log lines exposed as an ObservableList, so a ListView only renders the visible rows.
+//? Once full, each append evicts the oldest line: O(1) per append and constant memory however long the game runs.
+//? Evicted lines can optionally be spilled to a text file so nothing is lost.
+public class GameLogList extends ObservableListBase<String> {
+    public static final int DEFAULT_CAPACITY = Integer.getInteger("monopoly.log.capacity", 500);
+
+    private final String[] ring;
+    private int head = 0; //! Index of the oldest line
+    private int size = 0;
+    private BufferedWriter spill = null;
+
+    public GameLogList(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        ring = new String[capacity];
+    }
+
+    //? Evicted lines get appended to `spillFile`; if it can't be opened the log just stays in memory.
+    public GameLogList(int capacity, Path spillFile) {
+        this(capacity);
+        try {
+            if (spillFile.getParent() != null) Files.createDirectories(spillFile.getParent());
+            spill = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.out.println("Log spill disabled: " + e.getMessage());
+        }
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return ring[(head + index) % ring.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public void append(String line) {
+        beginChange();
+        try {
+            if (size == ring.length) {
+                String evicted = ring[head];
+                ring[head] = line;
+                head = (head + 1) % ring.length;
+                spill(evicted);
+
+                nextRemove(0, evicted);
+                nextAdd(size - 1, size);
+            } else {
+                ring[(head + size) % ring.length] = line;
+                size++;
+                nextAdd(size - 1, size);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void spill(String line) {
+        if (spill == null) return;
+        try {
+            spill.write(line);
+            spill.newLine();
+        } catch (IOException e) {
+            System.out.println("Log spill failed: " + e.getMessage());
+            closeSpill();
+        }
+    }
+
+    //? Flushes lines still in memory to the spill file (if any) and closes it.
+    public void close() {
+        if (spill == null) return;
+        for (int i = 0; i < size && spill != null; i++) {
+            spill(get(i));
+        }
+        closeSpill();
+    }
+
+    private void closeSpill() {
+        try {
+            if (spill != null) spill.close();
+        } catch (IOException ignored) {
+        } finally {
+            spill = null;
+        }
+    }
+}
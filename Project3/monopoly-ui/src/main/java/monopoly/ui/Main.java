@@ -1,9 +1,12 @@
-package monopoly;
+package monopoly.ui;
 
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import monopoly.GameEngine;
+import monopoly.GameReplay;
+import monopoly.PlayerStrategy;
 
 public class Main extends Application {
     private static Stage primaryStage;
@@ -16,17 +19,27 @@ public class Main extends Application {
 
     public static void showStartMenu() throws Exception {
         FXMLLoader loader = new FXMLLoader(Main.class.getResource("start-menu.fxml"));
-        Scene scene = new Scene(loader.load(), 600, 400);
+        Scene scene = new Scene(loader.load(), 600, 450);
         primaryStage.setTitle("Monopoly Game");
         primaryStage.setScene(scene);
         primaryStage.show();
     }
 
-    public static void showGameScreen(GameEngine engine) throws Exception {
+    //! strategies[i] plays seat i, null (or past the end) means a human at the keyboard
+    public static void showGameScreen(GameEngine engine, PlayerStrategy[] strategies) throws Exception {
         FXMLLoader loader = new FXMLLoader(Main.class.getResource("game-screen.fxml"));
         Scene scene = new Scene(loader.load(), 1200, 800);
         GameController controller = loader.getController();
         controller.setGameEngine(engine);
+        controller.setStrategies(strategies);
+        primaryStage.setScene(scene);
+    }
+
+    public static void showReplayScreen(GameReplay replay, GameEngine view) throws Exception {
+        FXMLLoader loader = new FXMLLoader(Main.class.getResource("game-screen.fxml"));
+        Scene scene = new Scene(loader.load(), 1200, 800);
+        GameController controller = loader.getController();
+        controller.setReplay(replay, view);
         primaryStage.setScene(scene);
     }
 
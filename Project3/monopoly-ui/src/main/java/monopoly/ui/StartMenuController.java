@@ -0,0 +1,202 @@
+package monopoly.ui;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.*;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import monopoly.GameEngine;
+import monopoly.GameReplay;
+import monopoly.Player;
+import monopoly.PlayerStrategy;
+import monopoly.Rules;
+import monopoly.TurnJournal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class StartMenuController {
+    private static final String HUMAN = "Human";
+    private static final String AUTOSAVE = "autosave";
+    
+    @FXML private VBox playerNamesBox;
+    @FXML private TextField player1Field;
+    @FXML private TextField player2Field;
+    @FXML private TextField player3Field;
+    @FXML private TextField player4Field;
+    @FXML private ComboBox<String> player1Type;
+    @FXML private ComboBox<String> player2Type;
+    @FXML private ComboBox<String> player3Type;
+    @FXML private ComboBox<String> player4Type;
+    @FXML private ComboBox<String> ruleSetBox;
+    @FXML private Button startGameButton;
+    @FXML private Button loadGameButton;
+    @FXML private Button watchReplayButton;
+    
+    @FXML
+    private void initialize() {
+        ruleSetBox.getItems().setAll(Rules.Available());
+        ruleSetBox.setValue(Rules.DEFAULT);
+        
+        //! Any mix of humans and bots; bots are played by PlayerStrategy.byName
+        for (ComboBox<String> type : playerTypes()) {
+            type.getItems().setAll(HUMAN);
+            type.getItems().addAll(PlayerStrategy.BUILT_IN);
+            type.setValue(HUMAN);
+        }
+    }
+    
+    private List<ComboBox<String>> playerTypes() {
+        return Arrays.asList(player1Type, player2Type, player3Type, player4Type);
+    }
+    
+    @FXML
+    private void onStartGame() {
+        List<String> playerNames = new ArrayList<>();
+        List<PlayerStrategy> strategies = new ArrayList<>();
+        List<TextField> fields = Arrays.asList(player1Field, player2Field, player3Field, player4Field);
+
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i).getText().trim();
+            if (!name.isEmpty()) {
+                playerNames.add(name);
+                strategies.add(PlayerStrategy.byName(playerTypes().get(i).getValue()));
+            }
+        }
+
+        if (playerNames.size() < 2) {
+            showAlert("Need at least 2 players!");
+            return;
+        }
+        
+        Rules rules;
+        try {
+            rules = Rules.Get(ruleSetBox.getValue() == null ? Rules.DEFAULT : ruleSetBox.getValue());
+        } catch (IOException e) {
+            showAlert("Can't load rule set: " + e.getMessage());
+            return;
+        }
+        
+        GameEngine engine = new GameEngine();
+        engine.newGame(playerNames, rules);
+        
+        //! Every game is journaled, so a crash loses at most the last commit delay. New games go to the autosave slot
+        //! (-Dmonopoly.autosave=<name>) until Save moves them; -Dmonopoly.record=<name> records the whole game instead,
+        //! so it can be watched later with Watch Replay
+        String recordName = System.getProperty("monopoly.record");
+        try {
+            if (recordName != null) {
+                TurnJournal.record(recordName, engine);
+            } else {
+                TurnJournal.replace(System.getProperty("monopoly.autosave", AUTOSAVE), engine);
+            }
+        } catch (IOException e) {
+            showAlert("Journal disabled, this game won't be saved automatically: " + e.getMessage());
+        }
+        
+        try {
+            Main.showGameScreen(engine, strategies.toArray(new PlayerStrategy[0]));
+        } catch (Exception e) {
+            showAlert("Error starting game: " + e.getMessage());
+        }
+    }
+
+    @FXML
+    private void onLoadGame() {
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Load Game");
+        dialog.setHeaderText("Enter save file name (no extension)");
+        dialog.setContentText("File name:");
+        
+        dialog.showAndWait().ifPresent(fileName -> {
+            GameEngine engine = new GameEngine();
+            if (engine.loadGame(fileName)) {
+                Optional<PlayerStrategy[]> strategies = askSeatTypes(engine.getPlayers());
+                if (!strategies.isPresent()) {
+                    return;
+                }
+                
+                //! Keep journaling into the slot it came from; the new snapshot already includes the old journal
+                try {
+                    TurnJournal.replace(fileName, engine);
+                } catch (IOException e) {
+                    showAlert("Journal disabled, this game won't be saved automatically: " + e.getMessage());
+                }
+                
+                try {
+                    Main.showGameScreen(engine, strategies.get());
+                } catch (Exception e) {
+                    showAlert("Error loading game: " + e.getMessage());
+                }
+            } else {
+                showAlert("Failed to load game file: " + fileName);
+            }
+        });
+    }
+    
+    @FXML
+    private void onWatchReplay() {
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Watch Replay");
+        dialog.setHeaderText("Enter recording name (no extension)");
+        dialog.setContentText("File name:");
+        
+        dialog.showAndWait().ifPresent(fileName -> {
+            try {
+                GameReplay replay = GameReplay.open(fileName, GameLogList.DEFAULT_CAPACITY);
+                GameEngine view = replay == null ? null : replay.createViewEngine();
+                if (view == null) {
+                    showAlert("Failed to load recording: " + fileName);
+                    return;
+                }
+                Main.showReplayScreen(replay, view);
+            } catch (Exception e) {
+                showAlert("Error loading recording: " + e.getMessage());
+            }
+        });
+    }
+    
+    //? Saves don't know who was a bot, so ask again. Each seat starts at what the menu has for that seat.
+    private Optional<PlayerStrategy[]> askSeatTypes(List<Player> players) {
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(10);
+        
+        List<ComboBox<String>> types = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            ComboBox<String> type = new ComboBox<>();
+            type.getItems().setAll(HUMAN);
+            type.getItems().addAll(PlayerStrategy.BUILT_IN);
+            type.setValue(i < playerTypes().size() ? playerTypes().get(i).getValue() : HUMAN);
+            types.add(type);
+            grid.addRow(i, new Label(players.get(i).name), type);
+        }
+        
+        Dialog<PlayerStrategy[]> dialog = new Dialog<>();
+        dialog.setTitle("Load Game");
+        dialog.setHeaderText("Who plays each seat?");
+        dialog.getDialogPane().setContent(grid);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        dialog.setResultConverter(button -> {
+            if (button != ButtonType.OK) return null;
+            PlayerStrategy[] strategies = new PlayerStrategy[types.size()];
+            for (int i = 0; i < strategies.length; i++) {
+                strategies[i] = PlayerStrategy.byName(types.get(i).getValue());
+            }
+            return strategies;
+        });
+        return dialog.showAndWait();
+    }
+    
+    private void showAlert(String message) {
+        Alert alert = new Alert(Alert.AlertType.WARNING);
+        alert.setTitle("Warning");
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
+
+
@@ -1,9 +0,0 @@
-module monopoly {
-    requires javafx.controls;
-    requires javafx.fxml;
-    
-    opens monopoly to javafx.fxml;
-    exports monopoly;
-}
-
-